@@ -4,10 +4,18 @@ import com.company.Frames.GraphAgorithms.ArbitraryGraphAlgorithms.*;
 import com.company.Frames.GraphAgorithms.GridGrpahAlgorithms.GridGraphAlgorithmsSelectFrame;
 import com.company.Frames.GraphAgorithms.GridGrpahAlgorithms.GridGraphAlgorithmRenderingFrame;
 import com.company.Frames.GraphAgorithms.GridGrpahAlgorithms.GridResizingFrame;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.BoruvkaGraphAlgorithm;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.KruskalGraphAlgorithm;
 import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.PrimGraphAlgorithm;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.AStarTraversingAlgorithm;
 import com.company.Graphs.Algorithms.TraversingAlgorithms.BFSTraversingAlgorithm;
 import com.company.Graphs.Algorithms.TraversingAlgorithms.DFSTraversingAlgorithm;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.DeltaSteppingTraversingAlgorithm;
 import com.company.Graphs.Algorithms.TraversingAlgorithms.DijkstraTraversingAlgorithm;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.GridHeuristics;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.JumpPointSearchTraversingAlgorithm;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.ParallelBFSTraversingAlgorithm;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.RadixHeapDijkstraTraversingAlgorithm;
 
 import java.util.Arrays;
 import java.util.List;
@@ -31,12 +39,19 @@ public class GUI {
         MainFrame.getInstance().registerSelectFrame("Arbitrary Graph Algorithms", ArbitraryGraphAlgorithmsSelectFrame.getInstance());
 
         ArbitraryGraphAlgorithmsSelectFrame.getInstance().registerAlgorithm("BFS", new BFSTraversingAlgorithm<>(), ArbitraryGraphTraversingAlgorithmRenderFrame.getInstance());
+        ArbitraryGraphAlgorithmsSelectFrame.getInstance().registerAlgorithm("Parallel BFS", new ParallelBFSTraversingAlgorithm<>(), ArbitraryGraphTraversingAlgorithmRenderFrame.getInstance());
         ArbitraryGraphAlgorithmsSelectFrame.getInstance().registerAlgorithm("DFS", new DFSTraversingAlgorithm<>(), ArbitraryGraphTraversingAlgorithmRenderFrame.getInstance());
         ArbitraryGraphAlgorithmsSelectFrame.getInstance().registerAlgorithm("Dijkstra", new DijkstraTraversingAlgorithm<>(), ArbitraryGraphTraversingAlgorithmRenderFrame.getInstance());
+        ArbitraryGraphAlgorithmsSelectFrame.getInstance().registerAlgorithm("Radix Dijkstra", new RadixHeapDijkstraTraversingAlgorithm<>(), ArbitraryGraphTraversingAlgorithmRenderFrame.getInstance());
+        ArbitraryGraphAlgorithmsSelectFrame.getInstance().registerAlgorithm("Delta-stepping", new DeltaSteppingTraversingAlgorithm<>(), ArbitraryGraphTraversingAlgorithmRenderFrame.getInstance());
         ArbitraryGraphAlgorithmsSelectFrame.getInstance().registerAlgorithm("Prim", new PrimGraphAlgorithm<>(), ArbitraryGraphEdgeSelectionAlgorithmRenderFrame.getInstance());
+        ArbitraryGraphAlgorithmsSelectFrame.getInstance().registerAlgorithm("Kruskal", new KruskalGraphAlgorithm<>(), ArbitraryGraphEdgeSelectionAlgorithmRenderFrame.getInstance());
+        ArbitraryGraphAlgorithmsSelectFrame.getInstance().registerAlgorithm("Boruvka", new BoruvkaGraphAlgorithm<>(), ArbitraryGraphEdgeSelectionAlgorithmRenderFrame.getInstance());
 
         GridGraphAlgorithmsSelectFrame.getInstance().registerAlgorithm("BFS", new BFSTraversingAlgorithm<>(), GridGraphAlgorithmRenderingFrame.getInstance());
         GridGraphAlgorithmsSelectFrame.getInstance().registerAlgorithm("DFS", new DFSTraversingAlgorithm<>(), GridGraphAlgorithmRenderingFrame.getInstance());
+        GridGraphAlgorithmsSelectFrame.getInstance().registerAlgorithm("A*", new AStarTraversingAlgorithm<>(GridHeuristics.MANHATTAN), GridGraphAlgorithmRenderingFrame.getInstance());
+        GridGraphAlgorithmsSelectFrame.getInstance().registerAlgorithm("JPS", new JumpPointSearchTraversingAlgorithm(), GridGraphAlgorithmRenderingFrame.getInstance());
 
         frames.forEach(Frame::setUp);
     }
@@ -61,8 +61,7 @@ public class ArbitraryGraphEdgeSelectionAlgorithmRenderFrame extends ArbitraryGr
 
     @Override
     public void runAlgorithm() {
-        List<Pair<String, String>> result = algorithm.run(graph);
-        renderSelectedEdges(result);
+        runAlgorithmAsync(graph, this::renderSelectedEdges);
     }
 
 
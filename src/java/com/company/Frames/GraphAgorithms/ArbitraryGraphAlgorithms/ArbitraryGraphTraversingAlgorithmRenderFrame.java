@@ -30,10 +30,11 @@ public class ArbitraryGraphTraversingAlgorithmRenderFrame extends ArbitraryGraph
     @Override
     public void runAlgorithm() {
         resetVisuals();
-        Map<String, String> results = algorithm.run(graph);
-        TraversAlgorithmsResult<String> result = new TraversAlgorithmsResult<>(results, graph);
-        renderWorkOfAlgorithm(result.getVisited());
-        renderRestorationOfPath(result.getRestoredPaths());
+        runAlgorithmAsync(graph, results -> {
+            TraversAlgorithmsResult<String> result = new TraversAlgorithmsResult<>(results, graph);
+            renderWorkOfAlgorithm(result.getVisited());
+            renderRestorationOfPath(result.getRestoredPaths());
+        });
     }
 
     /**
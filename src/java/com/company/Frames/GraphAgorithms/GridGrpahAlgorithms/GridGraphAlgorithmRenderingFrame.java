@@ -7,7 +7,7 @@ import com.company.Graphs.Algorithms.TraversAlgorithmsResult;
 import com.company.Graphs.GraphInterface.PointType;
 import com.company.Graphs.GridPoint;
 import com.company.Graphs.GridPoint.GridPointRelativePosition;
-import com.company.Graphs.Implementations.GridGraph;
+import com.company.Graphs.Implementations.ImplicitGridGraph;
 import javafx.util.Pair;
 
 import javax.swing.*;
@@ -44,6 +44,7 @@ public class GridGraphAlgorithmRenderingFrame extends RenderingFrame<Map<GridPoi
     private final String RUN_BUTTON_TEXT = "run";
     private final String BACK_BUTTON_TEXT = "back";
     private final String GRID_BUTTON_DEFAULT_TEXT = "";
+    private final String VISITED_POINTS_TITLE_TEXT = "Visited points: ";
 
     private final Dimension FRAME_SIZE = new Dimension((int) (0.95 * 1600), (int) (0.95 * 900));
     private final Rectangle GRID_SIZE = new Rectangle(5, 40, FRAME_SIZE.width - 10, FRAME_SIZE.height - 80);
@@ -64,10 +65,12 @@ public class GridGraphAlgorithmRenderingFrame extends RenderingFrame<Map<GridPoi
 
     public void runAlgorithm() {
         resetVisuals();
-        Map<GridPoint, GridPoint> results = algorithm.run(graph);
-        TraversAlgorithmsResult<GridPoint> result = new TraversAlgorithmsResult<>(results, graph);
-        renderWorkOfAlgorithm(result.getVisited());
-        renderRestorationOfPath(result.getRestoredPaths());
+        runAlgorithmAsync(graph, results -> {
+            setTitle(VISITED_POINTS_TITLE_TEXT + results.size());
+            TraversAlgorithmsResult<GridPoint> result = new TraversAlgorithmsResult<>(results, graph);
+            renderWorkOfAlgorithm(result.getVisited());
+            renderRestorationOfPath(result.getRestoredPaths());
+        });
     }
 
     public void setSelectType(PointType selectType) {
@@ -86,6 +89,7 @@ public class GridGraphAlgorithmRenderingFrame extends RenderingFrame<Map<GridPoi
 
         getContentPane().validate();
 
+        cancelAlgorithm();
         graph.updatePointType(point, selectType);
     }
 
@@ -118,6 +122,7 @@ public class GridGraphAlgorithmRenderingFrame extends RenderingFrame<Map<GridPoi
      */
     @Override
     public void resetVertexes() {
+        cancelAlgorithm();
         graph.resetSelectedPoints();
         resetField();
     }
@@ -145,7 +150,8 @@ public class GridGraphAlgorithmRenderingFrame extends RenderingFrame<Map<GridPoi
     }
 
     private JPanel createField(int rows, int cols) {
-        graph = new GridGraph(rows, cols);
+        cancelAlgorithm();
+        graph = new ImplicitGridGraph(rows, cols);
         JPanel field = new JPanel();
         field.setLayout(new GridLayout(rows, cols));
         createGridButtons(rows, cols).forEach(field::add);
@@ -197,6 +203,7 @@ public class GridGraphAlgorithmRenderingFrame extends RenderingFrame<Map<GridPoi
 
     @Override
     public void resetField() {
+        cancelAlgorithm();
         for (JButton button : buttons.values()) {
             button.setBackground(FREE_GRID_POINT_COLOR);
             button.setText(GRID_BUTTON_DEFAULT_TEXT);
@@ -3,7 +3,11 @@ package com.company.Frames;
 import com.company.Graphs.Algorithms.GraphAlgorithmInterface;
 import com.company.Graphs.GraphInterface;
 
+import javax.swing.*;
 import java.awt.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 
 /**
@@ -16,6 +20,7 @@ public abstract class RenderingFrame<P, T, E> extends Frame {
     protected final Color POINT_PART_OF_RESTORED_PATH_COLOR = Color.CYAN;
     protected GraphInterface<T, E> graph;
     protected GraphAlgorithmInterface<P, T, E> algorithm;
+    private CompletableFuture<P> running;
 
     public void setAlgorithm(GraphAlgorithmInterface<P, T, E> algorithm) {
         this.algorithm = algorithm;
@@ -26,6 +31,33 @@ public abstract class RenderingFrame<P, T, E> extends Frame {
      */
     public abstract void runAlgorithm();
 
+    /**
+     * Runs specified algorithm outside of the event dispatch thread, so window is not frozen by long runs.
+     * Previous run is cancelled, result is rendered in the event dispatch thread
+     *
+     * @param graph  graph on which to run algorithm
+     * @param render renders result of an algorithm
+     */
+    protected void runAlgorithmAsync(GraphInterface<T, E> graph, Consumer<P> render) {
+        cancelAlgorithm();
+        CompletableFuture<P> run = graph.runAlgorithmAsync(algorithm, ForkJoinPool.commonPool());
+        running = run;
+        run.whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+            if (running != run) return;
+            running = null;
+            if (error == null) render.accept(result);
+            else if (!run.isCancelled()) error.printStackTrace();
+        }));
+    }
+
+    /**
+     * Cancels a run of an algorithm if it is not finished
+     */
+    public void cancelAlgorithm() {
+        if (running != null) running.cancel(true);
+        running = null;
+    }
+
     @Override
     public abstract void setUp();
 
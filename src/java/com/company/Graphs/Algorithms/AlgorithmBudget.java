@@ -0,0 +1,148 @@
+package com.company.Graphs.Algorithms;
+
+import com.company.Graphs.Errors.AlgorithmAbortedException;
+import com.company.Graphs.GraphInterface;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Limits of one run of an algorithm: it can be cancelled, have a time limit and a limit of visited vertexes.
+ * Algorithms get a budget of a current run with current() and report visited vertexes with visit(),
+ * which throws AlgorithmAbortedException once a run is cancelled or a limit is exceeded.
+ * Checks are cooperative, so a run stops at its next visit. Time is checked once per TIME_CHECK_PERIOD
+ * visited vertexes. Parallel algorithms take a budget in a calling thread and may visit from many threads.
+ * Outside of a budgeted run current() returns a budget without limits, whose visit() does nothing
+ */
+public final class AlgorithmBudget {
+    private static final AlgorithmBudget UNLIMITED = new AlgorithmBudget(false, 0, Long.MAX_VALUE);
+    private static final ThreadLocal<AlgorithmBudget> CURRENT = new ThreadLocal<>();
+    private static final long TIME_CHECK_PERIOD = 1024;
+
+    private final boolean limited;
+    private final long timeoutNanos;
+    private final long maxVisited;
+    private final AtomicLong visited = new AtomicLong();
+    private volatile boolean cancelled = false;
+    private volatile long start;
+
+    private AlgorithmBudget(boolean limited, long timeoutNanos, long maxVisited) {
+        this.limited = limited;
+        this.timeoutNanos = timeoutNanos;
+        this.maxVisited = maxVisited;
+    }
+
+    /**
+     * Creates budget that only allows to cancel a run
+     */
+    public AlgorithmBudget() {
+        this(true, 0, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param timeout    maximal time of a run, null for no limit
+     * @param maxVisited maximal number of vertexes visited by a run (edges for KruskalGraphAlgorithm and BoruvkaGraphAlgorithm)
+     */
+    public AlgorithmBudget(Duration timeout, long maxVisited) {
+        this(true, timeout == null ? 0 : Math.max(1, timeout.toNanos()), maxVisited);
+    }
+
+    /**
+     * @return budget of a run in a current thread or a budget without limits
+     */
+    public static AlgorithmBudget current() {
+        AlgorithmBudget budget = CURRENT.get();
+        return budget == null ? UNLIMITED : budget;
+    }
+
+    /**
+     * Runs an action with this budget as a budget of a current thread, time limit starts now
+     *
+     * @param action action that runs an algorithm
+     * @return result of an action
+     * @throws AlgorithmAbortedException if run is cancelled or exceeds a limit
+     */
+    public <P> P run(Supplier<P> action) {
+        AlgorithmBudget previous = CURRENT.get();
+        start = System.nanoTime();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) CURRENT.remove();
+            else CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Runs an algorithm with this budget in an executor.
+     * Cancelling of a returned future cancels a run, run aborted by a limit completes a future with AlgorithmAbortedException
+     *
+     * @param graph     graph on which to run algorithm
+     * @param algorithm algorithm to run
+     * @param executor  executor in which algorithm runs
+     * @return future result of an algorithm
+     */
+    public <P, T, E> CompletableFuture<P> runAsync(GraphInterface<T, E> graph, GraphAlgorithmInterface<P, T, E> algorithm, Executor executor) {
+        CompletableFuture<P> future = CompletableFuture.supplyAsync(() -> run(() -> algorithm.run(graph)), executor);
+        future.whenComplete((result, error) -> {
+            if (future.isCancelled()) cancel();
+        });
+        return future;
+    }
+
+    /**
+     * Asks a run to stop at its next visit
+     */
+    public void cancel() {
+        if (limited) cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @return false for a budget without limits returned by current() outside of a budgeted run
+     */
+    public boolean isLimited() {
+        return limited;
+    }
+
+    /**
+     * @return number of vertexes visited with this budget
+     */
+    public long getVisited() {
+        return visited.get();
+    }
+
+    /**
+     * Reports one visited vertex
+     *
+     * @throws AlgorithmAbortedException if run is cancelled or exceeds a limit
+     */
+    public void visit() {
+        visit(1);
+    }
+
+    /**
+     * Reports a number of visited vertexes, 0 only checks limits
+     *
+     * @param count number of visited vertexes
+     * @throws AlgorithmAbortedException if run is cancelled or exceeds a limit
+     */
+    public void visit(long count) {
+        if (!limited) return;
+        if (cancelled) throw new AlgorithmAbortedException("Algorithm was cancelled");
+        long total = visited.addAndGet(count);
+        if (total > maxVisited)
+            throw new AlgorithmAbortedException("Algorithm visited more than " + maxVisited + " vertexes");
+        if (timeoutNanos == 0) return;
+        boolean periodPassed = count == 0 || (total - count) / TIME_CHECK_PERIOD != total / TIME_CHECK_PERIOD;
+        if (periodPassed && System.nanoTime() - start > timeoutNanos)
+            throw new AlgorithmAbortedException("Algorithm ran longer than " + Duration.ofNanos(timeoutNanos).toMillis() + " ms");
+    }
+}
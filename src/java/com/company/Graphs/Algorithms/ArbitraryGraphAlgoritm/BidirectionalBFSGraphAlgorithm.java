@@ -0,0 +1,113 @@
+package com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm;
+
+import com.company.Graphs.Algorithms.AlgorithmBudget;
+import com.company.Graphs.Algorithms.GraphAlgorithmInterface;
+import com.company.Graphs.Algorithms.SearchContext;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.ReverseIndexedGraphInterface;
+
+/**
+ * Class for calculating shortest distance between two points (considers each edge of the same length).
+ * Runs BFS from both points at the same time: forward along edges from the first point and backward against edges
+ * from the second one. Each step the smaller frontier is expanded by a whole level, search stops when frontiers meet.
+ * Arrays of a run are taken from SearchContext, so repeated queries don't allocate and clear arrays of a graph size
+ *
+ * @param <T> Type of vertexId
+ * @param <E> Type of values in vertex
+ */
+public class BidirectionalBFSGraphAlgorithm<T, E> implements GraphAlgorithmInterface<Integer, T, E> {
+    private final T firstVertex;
+    private final T secondVertex;
+
+    public BidirectionalBFSGraphAlgorithm(T firstVertex, T secondVertex) {
+        this.firstVertex = firstVertex;
+        this.secondVertex = secondVertex;
+    }
+
+    private static class Frontier {
+        private final ReverseIndexedGraphInterface<?, ?> graph;
+        private final boolean backward;
+        private final SearchContext context;
+        private final int side;
+        private final int[] distances;
+        private final int[] queue;
+        private int head = 0;
+        private int tail = 0;
+
+        /**
+         * @param side number of a set of marks and of arrays of a context used by a frontier, 0 or 1
+         */
+        private Frontier(ReverseIndexedGraphInterface<?, ?> graph, boolean backward, SearchContext context, int side, int start) {
+            this.graph = graph;
+            this.backward = backward;
+            this.context = context;
+            this.side = side;
+            distances = context.getInts(2 * side);
+            queue = context.getInts(2 * side + 1);
+            context.mark(side, start);
+            distances[start] = 0;
+            queue[tail++] = start;
+        }
+
+        private boolean isReached(int vertex) {
+            return context.isMarked(side, vertex);
+        }
+
+        private int size() {
+            return tail - head;
+        }
+
+        /**
+         * Visits all vertexes of the next level
+         *
+         * @param other frontier of a search from the other side
+         * @return length of the shortest path through vertexes of the next level or 2147483647 (2^31 - 1) if frontiers didn't meet
+         */
+        private int expandLevel(Frontier other) {
+            int best = Integer.MAX_VALUE;
+            int levelEnd = tail;
+            for (; head < levelEnd; ++head) {
+                int vertex = queue[head];
+                int degree = backward ? graph.getInDegreeByIndex(vertex) : graph.getDegreeByIndex(vertex);
+                for (int position = 0; position < degree; ++position) {
+                    int nextVertex = backward ? graph.getPredecessorByIndex(vertex, position) : graph.getNeighbourByIndex(vertex, position);
+                    if (!context.mark(side, nextVertex)) continue;
+                    distances[nextVertex] = distances[vertex] + 1;
+                    queue[tail++] = nextVertex;
+                    if (other.isReached(nextVertex))
+                        best = Math.min(best, distances[nextVertex] + other.distances[nextVertex]);
+                }
+            }
+            return best;
+        }
+    }
+
+    private int calculateDistance(ReverseIndexedGraphInterface<T, E> graph, int from, int to) {
+        if (from == to) return 0;
+        try (SearchContext context = SearchContext.acquire(graph.getVertexIndexBound())) {
+            Frontier forward = new Frontier(graph, false, context, 0, from);
+            Frontier backward = new Frontier(graph, true, context, 1, to);
+            AlgorithmBudget budget = AlgorithmBudget.current();
+            while (forward.size() > 0 && backward.size() > 0) {
+                budget.visit(Math.min(forward.size(), backward.size()));
+                int distance = forward.size() <= backward.size() ? forward.expandLevel(backward) : backward.expandLevel(forward);
+                if (distance != Integer.MAX_VALUE) return distance;
+            }
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * @param graph graph on which to run algorithm
+     * @return distance between points if there is a path between them, otherwise 2147483647 (2^31 - 1),
+     * null if one of points doesn't exist
+     */
+    @Override
+    public Integer run(GraphInterface<T, E> graph) {
+        ReverseIndexedGraphInterface<T, E> indexed = ReverseIndexedGraphInterface.of(graph);
+        int from = indexed.getVertexIndex(firstVertex);
+        int to = indexed.getVertexIndex(secondVertex);
+        if (from == -1 || to == -1) return null;
+        return calculateDistance(indexed, from, to);
+    }
+}
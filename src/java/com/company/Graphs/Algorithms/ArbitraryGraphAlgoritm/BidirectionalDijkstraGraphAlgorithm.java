@@ -0,0 +1,111 @@
+package com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm;
+
+import com.company.Graphs.Algorithms.AlgorithmBudget;
+import com.company.Graphs.Algorithms.GraphAlgorithmInterface;
+import com.company.Graphs.Algorithms.IndexedHeap;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.ReverseIndexedGraphInterface;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Class for calculating the shortest weighted distance between two points, all edges must have non-negative weights.
+ * Runs Dijkstra algorithm from both points at the same time: forward along edges from the first point and backward
+ * against edges from the second one, each step the side with the smaller key in a heap is advanced.
+ * Search stops when sum of the smallest keys of both heaps is not less than the best path found through met frontiers
+ *
+ * @param <T> Type of vertexId
+ * @param <E> Type of values in vertex
+ */
+public class BidirectionalDijkstraGraphAlgorithm<T, E> implements GraphAlgorithmInterface<Long, T, E> {
+    private static final int HEAP_ARITY = 4;
+    private final T firstVertex;
+    private final T secondVertex;
+
+    public BidirectionalDijkstraGraphAlgorithm(T firstVertex, T secondVertex) {
+        this.firstVertex = firstVertex;
+        this.secondVertex = secondVertex;
+    }
+
+    private static class Side {
+        private final ReverseIndexedGraphInterface<?, ?> graph;
+        private final boolean backward;
+        private final long[] distances;
+        private final BitSet settled;
+        private final IndexedHeap order;
+
+        private Side(ReverseIndexedGraphInterface<?, ?> graph, boolean backward, int start) {
+            this.graph = graph;
+            this.backward = backward;
+            int bound = graph.getVertexIndexBound();
+            distances = new long[bound];
+            settled = new BitSet(bound);
+            order = new IndexedHeap(bound, HEAP_ARITY);
+            Arrays.fill(distances, Long.MAX_VALUE);
+            distances[start] = 0;
+            order.pushOrDecrease(start, 0);
+        }
+
+        private long getSmallestKey() {
+            return order.getKey(order.peek());
+        }
+
+        /**
+         * Settles vertex with the smallest distance and relaxes its edges
+         *
+         * @param other side of a search from the other point
+         * @param best  length of the best path found so far
+         * @return length of the best path after relaxing edges
+         */
+        private long advance(Side other, long best) {
+            int vertex = order.poll();
+            settled.set(vertex);
+            int degree = backward ? graph.getInDegreeByIndex(vertex) : graph.getDegreeByIndex(vertex);
+            for (int position = 0; position < degree; ++position) {
+                int nextVertex = backward ? graph.getPredecessorByIndex(vertex, position) : graph.getNeighbourByIndex(vertex, position);
+                int weight = backward ? graph.getInEdgeWeightByIndex(vertex, position) : graph.getEdgeWeightByIndex(vertex, position);
+                if (weight < 0)
+                    throw new IllegalArgumentException("Edge of " + graph.getVertexByIndex(vertex) + " has negative weight");
+                long distance = distances[vertex] + weight;
+                if (other.distances[nextVertex] != Long.MAX_VALUE)
+                    best = Math.min(best, distance + other.distances[nextVertex]);
+                if (settled.get(nextVertex) || distance >= distances[nextVertex]) continue;
+                distances[nextVertex] = distance;
+                order.pushOrDecrease(nextVertex, distance);
+            }
+            return best;
+        }
+    }
+
+    private long calculateDistance(ReverseIndexedGraphInterface<T, E> graph, int from, int to) {
+        if (from == to) return 0;
+        Side forward = new Side(graph, false, from);
+        Side backward = new Side(graph, true, to);
+        long best = Long.MAX_VALUE;
+        AlgorithmBudget budget = AlgorithmBudget.current();
+        while (!forward.order.isEmpty() && !backward.order.isEmpty()) {
+            long forwardKey = forward.getSmallestKey();
+            long backwardKey = backward.getSmallestKey();
+            if (forwardKey + backwardKey >= best) break;
+            budget.visit();
+            best = forwardKey <= backwardKey ? forward.advance(backward, best) : backward.advance(forward, best);
+        }
+        return best;
+    }
+
+    /**
+     * @param graph graph on which to run algorithm, all edges must have non-negative weights
+     * @return weighted distance between points if there is a path between them, otherwise 9223372036854775807 (2^63 - 1),
+     * null if one of points doesn't exist
+     * @throws IllegalArgumentException if search reaches an edge with negative weight
+     */
+    @Override
+    public Long run(GraphInterface<T, E> graph) {
+        ReverseIndexedGraphInterface<T, E> indexed = ReverseIndexedGraphInterface.of(graph);
+        int from = indexed.getVertexIndex(firstVertex);
+        int to = indexed.getVertexIndex(secondVertex);
+        if (from == -1 || to == -1) return null;
+        return calculateDistance(indexed, from, to);
+    }
+}
@@ -0,0 +1,125 @@
+package com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm;
+
+import com.company.Graphs.Algorithms.AlgorithmBudget;
+import com.company.Graphs.Algorithms.DisjointSetUnion;
+import com.company.Graphs.Algorithms.GraphAlgorithmInterface;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.IndexedGraphInterface;
+import javafx.util.Pair;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Class for building minimum spanning forest of a graph by Boruvka algorithm, edges are considered undirected
+ * and weighted by getEdgeWeightByIndex. Each round edges are scanned in parallel in a fork join pool and every
+ * component gets its lightest outgoing edge by compare-and-set on packed long keys, then components are joined
+ * by these edges. Number of components at least halves each round, so there are O(log V) rounds.
+ * Edges with values that are not Integer are ordered by their values as Comparable.
+ * Returns list of pairs of vertexes connected by edges of a forest
+ *
+ * @param <T> Type of vertexId
+ * @param <E> Type of values in vertex
+ */
+public class BoruvkaGraphAlgorithm<T, E extends Comparable<E>> implements GraphAlgorithmInterface<List<Pair<T, T>>, T, E> {
+    private static final int EDGES_GRAIN = 2048;
+    private final ForkJoinPool pool;
+
+    public BoruvkaGraphAlgorithm() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pool pool in which edges are scanned
+     */
+    public BoruvkaGraphAlgorithm(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    private static class LightestEdgesTask extends RecursiveAction {
+        private final EdgeArray edges;
+        private final int[] alive;
+        private final int[] components;
+        private final AtomicLongArray lightest;
+        private final int from;
+        private final int to;
+
+        private LightestEdgesTask(EdgeArray edges, int[] alive, int[] components, AtomicLongArray lightest, int from, int to) {
+            this.edges = edges;
+            this.alive = alive;
+            this.components = components;
+            this.lightest = lightest;
+            this.from = from;
+            this.to = to;
+        }
+
+        private void offer(int component, long key) {
+            long current;
+            do {
+                current = lightest.get(component);
+                if (current <= key) return;
+            } while (!lightest.compareAndSet(component, current, key));
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > EDGES_GRAIN) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new LightestEdgesTask(edges, alive, components, lightest, from, middle),
+                        new LightestEdgesTask(edges, alive, components, lightest, middle, to));
+                return;
+            }
+            for (int i = from; i < to; ++i) {
+                int edge = alive[i];
+                int first = components[edges.from[edge]];
+                int second = components[edges.to[edge]];
+                if (first == second) continue;
+                offer(first, edges.keys[edge]);
+                offer(second, edges.keys[edge]);
+            }
+        }
+    }
+
+    @Override
+    public List<Pair<T, T>> run(GraphInterface<T, E> graph) {
+        IndexedGraphInterface<T, E> indexed = IndexedGraphInterface.of(graph);
+        int bound = indexed.getVertexIndexBound();
+        EdgeArray edges = new EdgeArray(indexed, new EdgeWeights<>(indexed));
+        DisjointSetUnion union = new DisjointSetUnion(bound);
+        int[] components = new int[bound];
+        int[] alive = new int[edges.size];
+        int aliveNumber = edges.size;
+        for (int edge = 0; edge < aliveNumber; ++edge) {
+            alive[edge] = edge;
+        }
+        AtomicLongArray lightest = new AtomicLongArray(bound);
+        List<Pair<T, T>> result = new ArrayList<>();
+        AlgorithmBudget budget = AlgorithmBudget.current();
+
+        while (aliveNumber > 0) {
+            budget.visit(aliveNumber);
+            for (int index = 0; index < bound; ++index) {
+                components[index] = union.find(index);
+                lightest.set(index, Long.MAX_VALUE);
+            }
+            pool.invoke(new LightestEdgesTask(edges, alive, components, lightest, 0, aliveNumber));
+            for (int component = 0; component < bound; ++component) {
+                long key = lightest.get(component);
+                if (key == Long.MAX_VALUE) continue;
+                int edge = EdgeArray.getEdge(key);
+                if (!union.union(edges.from[edge], edges.to[edge])) continue;
+                result.add(new Pair<>(indexed.getVertexByIndex(edges.from[edge]), indexed.getVertexByIndex(edges.to[edge])));
+            }
+            int kept = 0;
+            for (int i = 0; i < aliveNumber; ++i) {
+                if (!union.isSameSet(edges.from[alive[i]], edges.to[alive[i]])) alive[kept++] = alive[i];
+            }
+            aliveNumber = kept;
+        }
+        return result;
+    }
+
+}
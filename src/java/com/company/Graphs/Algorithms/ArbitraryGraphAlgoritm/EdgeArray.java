@@ -0,0 +1,47 @@
+package com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm;
+
+import com.company.Graphs.IndexedGraphInterface;
+
+/**
+ * Edges of an indexed graph in primitive arrays, loops are skipped.
+ * Each edge has a sort key: weight from EdgeWeights in the high half and number of an edge in the low half,
+ * so keys of different edges are different and ordered by weights
+ */
+class EdgeArray {
+    final int[] from;
+    final int[] to;
+    final long[] keys;
+    final int size;
+
+    EdgeArray(IndexedGraphInterface<?, ?> graph, EdgeWeights<?> weights) {
+        int bound = graph.getVertexIndexBound();
+        int capacity = 0;
+        for (int index = 0; index < bound; ++index) {
+            capacity += graph.getDegreeByIndex(index);
+        }
+        from = new int[capacity];
+        to = new int[capacity];
+        keys = new long[capacity];
+        int count = 0;
+        for (int index = 0; index < bound; ++index) {
+            int degree = graph.getDegreeByIndex(index);
+            for (int position = 0; position < degree; ++position) {
+                int neighbour = graph.getNeighbourByIndex(index, position);
+                if (neighbour == index) continue;
+                from[count] = index;
+                to[count] = neighbour;
+                keys[count] = getKey(weights.get(index, position), count);
+                ++count;
+            }
+        }
+        size = count;
+    }
+
+    static long getKey(int weight, int edge) {
+        return ((long) weight << 32) | edge;
+    }
+
+    static int getEdge(long key) {
+        return (int) key;
+    }
+}
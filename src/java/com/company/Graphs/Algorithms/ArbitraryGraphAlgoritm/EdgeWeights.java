@@ -0,0 +1,72 @@
+package com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm;
+
+import com.company.Graphs.Implementations.IntWeightedGraph;
+import com.company.Graphs.IndexedGraphInterface;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Int weights of edges of an indexed graph used by spanning forest algorithms.
+ * If all values of edges are Integer or null, edges are weighted by getEdgeWeightByIndex.
+ * Otherwise values are compared as Comparable (null goes first) and each edge is weighted by the rank
+ * of its value among distinct values of a graph, ranks keep the order of edges, so spanning forest is the same
+ *
+ * @param <E> Type of values of edges
+ */
+class EdgeWeights<E extends Comparable<E>> {
+    private final IndexedGraphInterface<?, E> graph;
+    private final Map<E, Integer> ranks;
+
+    EdgeWeights(IndexedGraphInterface<?, E> graph) {
+        this.graph = graph;
+        ranks = hasOnlyIntegerValues(graph) ? null : rankValues(graph);
+    }
+
+    private static boolean hasOnlyIntegerValues(IndexedGraphInterface<?, ?> graph) {
+        if (graph instanceof IntWeightedGraph) return true;
+        int bound = graph.getVertexIndexBound();
+        for (int index = 0; index < bound; ++index) {
+            int degree = graph.getDegreeByIndex(index);
+            for (int position = 0; position < degree; ++position) {
+                Object value = graph.getEdgeValueByIndex(index, position);
+                if (value != null && !(value instanceof Integer)) return false;
+            }
+        }
+        return true;
+    }
+
+    private static <E extends Comparable<E>> Map<E, Integer> rankValues(IndexedGraphInterface<?, E> graph) {
+        Map<E, Integer> ranks = new TreeMap<>(Comparator.nullsFirst(Comparator.<E>naturalOrder()));
+        int bound = graph.getVertexIndexBound();
+        for (int index = 0; index < bound; ++index) {
+            int degree = graph.getDegreeByIndex(index);
+            for (int position = 0; position < degree; ++position) {
+                ranks.put(graph.getEdgeValueByIndex(index, position), 0);
+            }
+        }
+        int rank = 0;
+        for (Map.Entry<E, Integer> entry : ranks.entrySet()) {
+            entry.setValue(rank++);
+        }
+        return ranks;
+    }
+
+    /**
+     * @return true if edges are weighted by getEdgeWeightByIndex
+     */
+    boolean isExact() {
+        return ranks == null;
+    }
+
+    /**
+     * @param index    index of a vertex
+     * @param position position of an edge among edges of a vertex
+     * @return weight of an edge
+     */
+    int get(int index, int position) {
+        if (ranks == null) return graph.getEdgeWeightByIndex(index, position);
+        return ranks.get(graph.getEdgeValueByIndex(index, position));
+    }
+}
@@ -0,0 +1,45 @@
+package com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm;
+
+import com.company.Graphs.Algorithms.AlgorithmBudget;
+import com.company.Graphs.Algorithms.DisjointSetUnion;
+import com.company.Graphs.Algorithms.GraphAlgorithmInterface;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.IndexedGraphInterface;
+import javafx.util.Pair;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Class for building minimum spanning forest of a graph by Kruskal algorithm, edges are considered undirected
+ * and weighted by getEdgeWeightByIndex. Edges are sorted as packed long keys and joined by DisjointSetUnion,
+ * so algorithm takes O(E log E) without creating an object per edge.
+ * Edges with values that are not Integer are ordered by their values as Comparable
+ * Returns list of pairs of vertexes connected by edges of a forest
+ *
+ * @param <T> Type of vertexId
+ * @param <E> Type of values in vertex
+ */
+public class KruskalGraphAlgorithm<T, E extends Comparable<E>> implements GraphAlgorithmInterface<List<Pair<T, T>>, T, E> {
+
+    @Override
+    public List<Pair<T, T>> run(GraphInterface<T, E> graph) {
+        IndexedGraphInterface<T, E> indexed = IndexedGraphInterface.of(graph);
+        EdgeArray edges = new EdgeArray(indexed, new EdgeWeights<>(indexed));
+        long[] keys = Arrays.copyOf(edges.keys, edges.size);
+        Arrays.sort(keys);
+
+        DisjointSetUnion components = new DisjointSetUnion(indexed.getVertexIndexBound());
+        List<Pair<T, T>> result = new ArrayList<>();
+        AlgorithmBudget budget = AlgorithmBudget.current();
+        for (long key : keys) {
+            budget.visit();
+            int edge = EdgeArray.getEdge(key);
+            if (!components.union(edges.from[edge], edges.to[edge])) continue;
+            result.add(new Pair<>(indexed.getVertexByIndex(edges.from[edge]), indexed.getVertexByIndex(edges.to[edge])));
+        }
+        return result;
+    }
+
+}
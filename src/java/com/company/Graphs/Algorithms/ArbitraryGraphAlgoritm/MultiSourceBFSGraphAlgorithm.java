@@ -0,0 +1,129 @@
+package com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm;
+
+import com.company.Graphs.Algorithms.AlgorithmBudget;
+import com.company.Graphs.Algorithms.GraphAlgorithmInterface;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.IndexedGraphInterface;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Class for calculating distances from many points to all others (considers each edge of the same length).
+ * Runs BFS from up to 64 sources at the same time (MS-BFS): each vertex has a 64-bit mask of sources that
+ * have reached it and a mask of sources for which it is in a frontier, so an edge is walked once per level
+ * for all sources of a batch instead of once per source. More sources are split into batches of 64
+ *
+ * @param <T> Type of vertexId
+ * @param <E> Type of values in vertex
+ */
+public class MultiSourceBFSGraphAlgorithm<T, E> implements GraphAlgorithmInterface<MultiSourceDistances<T>, T, E> {
+    private static final int BATCH_SIZE = Long.SIZE;
+    private final List<T> sources;
+
+    /**
+     * @param sources points from which distances are calculated
+     */
+    public MultiSourceBFSGraphAlgorithm(Collection<T> sources) {
+        this.sources = new ArrayList<>(sources);
+    }
+
+    private static class Batch {
+        private final IndexedGraphInterface<?, ?> graph;
+        private final long[] seen;
+        private final long[] visit;
+        private final long[] next;
+        private final int[][] distances;
+        private final int offset;
+        private int[] frontier;
+        private int[] touched;
+        private int frontierSize = 0;
+
+        private Batch(IndexedGraphInterface<?, ?> graph, int[] starts, int[][] distances, int offset, int size) {
+            this.graph = graph;
+            this.distances = distances;
+            this.offset = offset;
+            int bound = graph.getVertexIndexBound();
+            seen = new long[bound];
+            visit = new long[bound];
+            next = new long[bound];
+            frontier = new int[bound];
+            touched = new int[bound];
+            for (int bit = 0; bit < size; ++bit) {
+                int start = starts[offset + bit];
+                if (start == -1) continue;
+                distances[offset + bit] = new int[bound];
+                Arrays.fill(distances[offset + bit], Integer.MAX_VALUE);
+                distances[offset + bit][start] = 0;
+                if (visit[start] == 0) frontier[frontierSize++] = start;
+                seen[start] |= 1L << bit;
+                visit[start] |= 1L << bit;
+            }
+        }
+
+        /**
+         * Moves all sources of a batch one level further
+         */
+        private void expandLevel(int level) {
+            int touchedSize = 0;
+            for (int i = 0; i < frontierSize; ++i) {
+                int vertex = frontier[i];
+                long mask = visit[vertex];
+                int degree = graph.getDegreeByIndex(vertex);
+                for (int position = 0; position < degree; ++position) {
+                    int neighbour = graph.getNeighbourByIndex(vertex, position);
+                    if (next[neighbour] == 0) touched[touchedSize++] = neighbour;
+                    next[neighbour] |= mask;
+                }
+            }
+            for (int i = 0; i < frontierSize; ++i) {
+                visit[frontier[i]] = 0;
+            }
+            int nextSize = 0;
+            for (int i = 0; i < touchedSize; ++i) {
+                int vertex = touched[i];
+                long reached = next[vertex] & ~seen[vertex];
+                next[vertex] = 0;
+                if (reached == 0) continue;
+                seen[vertex] |= reached;
+                visit[vertex] = reached;
+                touched[nextSize++] = vertex;
+                for (long bits = reached; bits != 0; bits &= bits - 1) {
+                    distances[offset + Long.numberOfTrailingZeros(bits)][vertex] = level;
+                }
+            }
+            int[] swap = frontier;
+            frontier = touched;
+            touched = swap;
+            frontierSize = nextSize;
+        }
+
+        private void run() {
+            AlgorithmBudget budget = AlgorithmBudget.current();
+            for (int level = 1; frontierSize > 0; ++level) {
+                budget.visit(frontierSize);
+                expandLevel(level);
+            }
+        }
+    }
+
+    /**
+     * @param graph graph on which to run algorithm
+     * @return distances from each source, sources that are not vertexes of a graph have null distances
+     */
+    @Override
+    public MultiSourceDistances<T> run(GraphInterface<T, E> graph) {
+        IndexedGraphInterface<T, E> indexed = IndexedGraphInterface.of(graph);
+        int[] starts = new int[sources.size()];
+        for (int i = 0; i < starts.length; ++i) {
+            starts[i] = indexed.getVertexIndex(sources.get(i));
+        }
+        int[][] distances = new int[starts.length][];
+        for (int offset = 0; offset < starts.length; offset += BATCH_SIZE) {
+            new Batch(indexed, starts, distances, offset, Math.min(BATCH_SIZE, starts.length - offset)).run();
+        }
+        return new MultiSourceDistances<>(indexed, sources, distances);
+    }
+}
@@ -0,0 +1,51 @@
+package com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm;
+
+import com.company.Graphs.IndexedGraphInterface;
+
+import java.util.List;
+
+/**
+ * Result of a multi source distances algorithm: for each source an array of distances by indexes of vertexes
+ *
+ * @param <T> Type of vertexId
+ */
+public class MultiSourceDistances<T> {
+    private final IndexedGraphInterface<T, ?> graph;
+    private final List<T> sources;
+    private final int[][] distances;
+
+    public MultiSourceDistances(IndexedGraphInterface<T, ?> graph, List<T> sources, int[][] distances) {
+        this.graph = graph;
+        this.sources = sources;
+        this.distances = distances;
+    }
+
+    /**
+     * @return sources in order in which they were given to an algorithm
+     */
+    public List<T> getSources() {
+        return sources;
+    }
+
+    /**
+     * @param sourceNumber number of a source in getSources
+     * @return distances from a source by indexes of vertexes in the indexed graph on which algorithm ran,
+     * 2147483647 (2^31 - 1) for not reached vertexes, null if source is not a vertex of a graph
+     */
+    public int[] getDistances(int sourceNumber) {
+        return distances[sourceNumber];
+    }
+
+    /**
+     * @param source source point
+     * @param point  point to check
+     * @return distance from a source to a point or 2147483647 (2^31 - 1) if it wasn't reached,
+     * null if source wasn't given to an algorithm or one of points is not a vertex of a graph
+     */
+    public Integer getDistance(T source, T point) {
+        int sourceNumber = sources.indexOf(source);
+        int index = graph.getVertexIndex(point);
+        if (sourceNumber == -1 || index == -1 || distances[sourceNumber] == null) return null;
+        return distances[sourceNumber][index];
+    }
+}
@@ -1,44 +1,66 @@
 package com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm;
 
+import com.company.Graphs.Algorithms.AlgorithmBudget;
 import com.company.Graphs.Algorithms.GraphAlgorithmInterface;
-import com.company.Graphs.Algorithms.Tuple;
-import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Algorithms.IndexedHeap;
 import com.company.Graphs.GraphInterface;
+import com.company.Graphs.Implementations.AbstractGraph;
+import com.company.Graphs.IndexedGraphInterface;
 import javafx.util.Pair;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 
+/**
+ * Class for building minimum spanning forest of a graph by Prim algorithm, edges are considered undirected
+ * and weighted by getEdgeWeightByIndex. Each vertex is stored in an indexed heap at most once with the weight
+ * of the lightest edge that connects it to the tree, so algorithm takes O(E log V).
+ * Edges with values that are not Integer are ordered by their values as Comparable.
+ * Edges of graphs derived from AbstractGraph with Integer values are walked directly over their arrays of neighbours and weights.
+ * Returns list of pairs, where the first vertex is already in a tree and the second one is attached by an edge
+ *
+ * @param <T> Type of vertexId
+ * @param <E> Type of values in vertex
+ */
 public class PrimGraphAlgorithm<T, E extends Comparable<E>> implements GraphAlgorithmInterface<List<Pair<T, T>>, T, E> {
-    private void addEdgesForPoint(GraphInterface<T, E> graph, T point, PriorityQueue<Tuple<T, E>> edges) {
-        try {
-            for (T to : graph.getAllDirectlyConnectedVertexes(point)) {
-                edges.add(new Tuple<>(graph.getEdgeValue(point, to), point, to));
-            }
-        } catch (NoSuchVertexException e) {
-            e.printStackTrace();
-        }
-    }
-
-    private void addPoint(GraphInterface<T, E> graph, Set<T> selected, PriorityQueue<Tuple<T, E>> edges, T point) {
-        selected.add(point);
-        addEdgesForPoint(graph, point, edges);
-    }
+    private static final int HEAP_ARITY = 4;
 
     @Override
     public List<Pair<T, T>> run(GraphInterface<T, E> graph) {
-        PriorityQueue<Tuple<T, E>> edges = new PriorityQueue<>();
-        Set<T> selected = new HashSet<>();
-        addPoint(graph, selected, edges, graph.getAllVertexesIds().get(0));
-
+        IndexedGraphInterface<T, E> indexed = IndexedGraphInterface.of(graph);
+        EdgeWeights<E> edgeWeights = new EdgeWeights<>(indexed);
+        AbstractGraph<?, ?> weighted = edgeWeights.isExact() && indexed instanceof AbstractGraph ? (AbstractGraph<?, ?>) indexed : null;
+        int bound = indexed.getVertexIndexBound();
+        IndexedHeap order = new IndexedHeap(bound, HEAP_ARITY);
+        BitSet selected = new BitSet(bound);
+        int[] parents = new int[bound];
         List<Pair<T, T>> result = new ArrayList<>();
+        AlgorithmBudget budget = AlgorithmBudget.current();
 
-        while (selected.size() != graph.getEdgesNumber() && !edges.isEmpty()) {
-            Tuple<T, E> edge = edges.poll();
-            if (selected.contains(edge.getTo())) continue;
-            addPoint(graph, selected, edges, edge.getTo());
-            result.add(new Pair<>(edge.getFrom(), edge.getTo()));
+        for (int start = 0; start < bound; ++start) {
+            if (selected.get(start) || indexed.getVertexByIndex(start) == null) continue;
+            parents[start] = -1;
+            order.pushOrDecrease(start, 0);
+            while (!order.isEmpty()) {
+                int vertex = order.poll();
+                selected.set(vertex);
+                budget.visit();
+                if (parents[vertex] != -1)
+                    result.add(new Pair<>(indexed.getVertexByIndex(parents[vertex]), indexed.getVertexByIndex(vertex)));
+                int degree = indexed.getDegreeByIndex(vertex);
+                int[] neighbours = weighted == null ? null : weighted.getNeighboursByIndex(vertex);
+                int[] weights = weighted == null ? null : weighted.getWeightsByIndex(vertex);
+                for (int position = 0; position < degree; ++position) {
+                    int neighbour = weighted == null ? indexed.getNeighbourByIndex(vertex, position) : neighbours[position];
+                    int weight = weighted == null ? edgeWeights.get(vertex, position) : weights[position];
+                    if (selected.get(neighbour) || (order.contains(neighbour) && order.getKey(neighbour) <= weight))
+                        continue;
+                    parents[neighbour] = vertex;
+                    order.pushOrDecrease(neighbour, weight);
+                }
+            }
         }
-
         return result;
     }
 
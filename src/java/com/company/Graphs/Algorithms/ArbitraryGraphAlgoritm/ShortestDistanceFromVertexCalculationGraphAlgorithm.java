@@ -1,8 +1,9 @@
 package com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm;
 
+import com.company.Graphs.Algorithms.AlgorithmBudget;
 import com.company.Graphs.Algorithms.GraphAlgorithmInterface;
-import com.company.Graphs.Errors.NoSuchVertexException;
 import com.company.Graphs.GraphInterface;
+import com.company.Graphs.IndexedGraphInterface;
 
 import java.util.*;
 
@@ -17,37 +18,43 @@ public class ShortestDistanceFromVertexCalculationGraphAlgorithm<T, E> implement
         startVertex = vertexId;
     }
 
-    private Map<T, Integer> initiateDistanceMap(GraphInterface<T, E> graph) {
-        Map<T, Integer> distances = new HashMap<>();
-        for (T vertex: graph.getAllVertexesIds()) {
-            distances.put(vertex, Integer.MAX_VALUE);
+    private int[] calculateDistances(IndexedGraphInterface<T, E> graph, int start) {
+        int[] distances = new int[graph.getVertexIndexBound()];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        int[] queue = new int[distances.length];
+        int tail = 0;
+        distances[start] = 0;
+        queue[tail++] = start;
+        AlgorithmBudget budget = AlgorithmBudget.current();
+
+        for (int head = 0; head < tail; ++head) {
+            budget.visit();
+            int vertex = queue[head];
+            int degree = graph.getDegreeByIndex(vertex);
+            for (int position = 0; position < degree; ++position) {
+                int nextVertex = graph.getNeighbourByIndex(vertex, position);
+                if (distances[nextVertex] != Integer.MAX_VALUE) continue;
+                distances[nextVertex] = distances[vertex] + 1;
+                queue[tail++] = nextVertex;
+            }
         }
-        distances.put(startVertex, 0);
         return distances;
     }
 
-    private Map<T, Integer> calculateDistances(GraphInterface<T, E> graph) throws NoSuchVertexException {
-        Map<T, Integer> distances = initiateDistanceMap(graph);
-        Queue<T> queue = new LinkedList<>();
-        queue.add(startVertex);
-
-        while (!queue.isEmpty()) {
-            T vertex = queue.poll();
-            for (T nextVertex: graph.getAllDirectlyConnectedVertexes(vertex)) {
-                if (distances.get(vertex) + 1 >= distances.get(nextVertex)) continue;
-                distances.put(nextVertex, distances.get(vertex) + 1);
-                queue.add(nextVertex);
-            }
+    private Map<T, Integer> toDistanceMap(IndexedGraphInterface<T, E> graph, int[] distances) {
+        Map<T, Integer> result = new HashMap<>();
+        for (int index = 0; index < distances.length; ++index) {
+            T vertex = graph.getVertexByIndex(index);
+            if (vertex != null) result.put(vertex, distances[index]);
         }
-        return distances;
+        return result;
     }
 
     @Override
     public Map<T, Integer> run(GraphInterface<T, E> graph) {
-        try {
-            return calculateDistances(graph);
-        } catch (NoSuchVertexException ignored) {
-            return null;
-        }
+        IndexedGraphInterface<T, E> indexed = IndexedGraphInterface.of(graph);
+        int start = indexed.getVertexIndex(startVertex);
+        if (start == -1) return null;
+        return toDistanceMap(indexed, calculateDistances(indexed, start));
     }
 }
@@ -0,0 +1,142 @@
+package com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm;
+
+import com.company.Graphs.Algorithms.AlgorithmBudget;
+import com.company.Graphs.Algorithms.GraphAlgorithmInterface;
+import com.company.Graphs.Algorithms.SearchContext;
+import com.company.Graphs.Errors.AlgorithmAbortedException;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.IndexedGraphInterface;
+import com.company.Graphs.Implementations.CsrGraph;
+import javafx.util.Pair;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+/**
+ * Class for calculating shortest distances between many pairs of points (considers each edge of the same length).
+ * Pairs are grouped by sources, so graph is searched once for each distinct source and search stops
+ * when all targets of a source are reached. Groups are searched in parallel in a fork join pool over
+ * an immutable snapshot of a graph, so graph can be changed while a batch runs.
+ * Returned stream gives answers of a group as soon as its search is finished, so order of answers
+ * differs from order of pairs. Searches of a run with a limited AlgorithmBudget are finished inside run,
+ * so a run stops with AlgorithmAbortedException and a future of runAlgorithmAsync completes after all searches
+ *
+ * @param <T> Type of vertexId
+ * @param <E> Type of values in vertex
+ */
+public class ShortestDistancesBatchGraphAlgorithm<T, E> implements GraphAlgorithmInterface<Stream<VertexPairDistance<T>>, T, E> {
+    private final List<Pair<T, T>> pairs;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param pairs pairs of a source and a target
+     */
+    public ShortestDistancesBatchGraphAlgorithm(List<Pair<T, T>> pairs) {
+        this(pairs, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pairs pairs of a source and a target
+     * @param pool  pool in which groups of pairs are searched
+     */
+    public ShortestDistancesBatchGraphAlgorithm(List<Pair<T, T>> pairs, ForkJoinPool pool) {
+        this.pairs = new ArrayList<>(pairs);
+        this.pool = pool;
+    }
+
+    /**
+     * Runs BFS from a source until all targets are reached
+     *
+     * @return answers for all targets of a source
+     */
+    private static <T> List<VertexPairDistance<T>> searchGroup(IndexedGraphInterface<T, ?> graph, T source, List<T> targets, AlgorithmBudget budget) {
+        List<VertexPairDistance<T>> answers = new ArrayList<>(targets.size());
+        int start = graph.getVertexIndex(source);
+        if (start == -1) {
+            for (T target : targets) {
+                answers.add(new VertexPairDistance<>(source, target, Integer.MAX_VALUE));
+            }
+            return answers;
+        }
+        try (SearchContext context = SearchContext.acquire(graph.getVertexIndexBound())) {
+            int[] queue = context.getInts(0);
+            int[] distances = context.getInts(1);
+            int remaining = 0;
+            for (T target : targets) {
+                int index = graph.getVertexIndex(target);
+                if (index != -1 && context.mark(1, index)) ++remaining;
+            }
+            int tail = 0;
+            queue[tail++] = start;
+            distances[start] = 0;
+            context.mark(0, start);
+            if (context.isMarked(1, start)) --remaining;
+            for (int head = 0; head < tail && remaining > 0; ++head) {
+                budget.visit();
+                int vertex = queue[head];
+                int degree = graph.getDegreeByIndex(vertex);
+                for (int position = 0; position < degree; ++position) {
+                    int neighbour = graph.getNeighbourByIndex(vertex, position);
+                    if (!context.mark(0, neighbour)) continue;
+                    distances[neighbour] = distances[vertex] + 1;
+                    queue[tail++] = neighbour;
+                    if (context.isMarked(1, neighbour)) --remaining;
+                }
+            }
+            for (T target : targets) {
+                int index = graph.getVertexIndex(target);
+                boolean reached = index != -1 && context.isMarked(0, index);
+                answers.add(new VertexPairDistance<>(source, target, reached ? distances[index] : Integer.MAX_VALUE));
+            }
+        }
+        return answers;
+    }
+
+    /**
+     * @param graph graph on which to run algorithm
+     * @return stream of answers for all pairs, pairs with points that are not vertexes of a graph
+     * have distance 2147483647 (2^31 - 1)
+     * @throws AlgorithmAbortedException if a run with a limited budget is cancelled or exceeds a limit
+     */
+    @Override
+    public Stream<VertexPairDistance<T>> run(GraphInterface<T, E> graph) {
+        CsrGraph<T, E> snapshot = graph instanceof CsrGraph ? (CsrGraph<T, E>) graph : CsrGraph.of(graph);
+        Map<T, List<T>> groups = new LinkedHashMap<>();
+        for (Pair<T, T> pair : pairs) {
+            groups.computeIfAbsent(pair.getKey(), source -> new ArrayList<>()).add(pair.getValue());
+        }
+        AlgorithmBudget budget = AlgorithmBudget.current();
+        CompletionService<List<VertexPairDistance<T>>> completion = new ExecutorCompletionService<>(pool);
+        for (Map.Entry<T, List<T>> group : groups.entrySet()) {
+            completion.submit(() -> searchGroup(snapshot, group.getKey(), group.getValue(), budget));
+        }
+        if (!budget.isLimited()) {
+            return Stream.generate(() -> takeGroup(completion)).limit(groups.size()).flatMap(List::stream);
+        }
+        List<VertexPairDistance<T>> answers = new ArrayList<>(pairs.size());
+        for (int group = 0; group < groups.size(); ++group) {
+            answers.addAll(takeGroup(completion));
+        }
+        return answers.stream();
+    }
+
+    private static <T> List<VertexPairDistance<T>> takeGroup(CompletionService<List<VertexPairDistance<T>>> completion) {
+        try {
+            return completion.take().get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for distances", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof AlgorithmAbortedException)
+                throw (AlgorithmAbortedException) exception.getCause();
+            throw new IllegalStateException("Search of distances failed", exception.getCause());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm;
+
+/**
+ * Answer to one query of a batch of shortest distance queries
+ *
+ * @param <T> Type of vertexId
+ */
+public class VertexPairDistance<T> {
+    private final T source;
+    private final T target;
+    private final int distance;
+
+    public VertexPairDistance(T source, T target, int distance) {
+        this.source = source;
+        this.target = target;
+        this.distance = distance;
+    }
+
+    public T getSource() {
+        return source;
+    }
+
+    public T getTarget() {
+        return target;
+    }
+
+    /**
+     * @return distance from a source to a target or 2147483647 (2^31 - 1) if there is no path
+     */
+    public int getDistance() {
+        return distance;
+    }
+
+    @Override
+    public String toString() {
+        return source + " -> " + target + ": " + distance;
+    }
+}
@@ -0,0 +1,116 @@
+package com.company.Graphs.Algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Disjoint sets of int elements from 0 to size - 1 with union by rank and path compression,
+ * so find and union take nearly constant amortized time
+ */
+public class DisjointSetUnion {
+    private int[] parents = new int[16];
+    private byte[] ranks = new byte[16];
+    private int size = 0;
+    private int setsNumber = 0;
+
+    public DisjointSetUnion() {
+    }
+
+    /**
+     * @param size number of elements, each in its own set
+     */
+    public DisjointSetUnion(int size) {
+        reset(size);
+    }
+
+    /**
+     * Removes all unions, so each of size elements is in its own set
+     *
+     * @param size number of elements
+     */
+    public void reset(int size) {
+        if (size > parents.length) {
+            parents = new int[size];
+            ranks = new byte[size];
+        }
+        for (int element = 0; element < size; ++element) {
+            parents[element] = element;
+        }
+        Arrays.fill(ranks, 0, size, (byte) 0);
+        this.size = size;
+        setsNumber = size;
+    }
+
+    /**
+     * Adds a new element in its own set
+     *
+     * @return added element
+     */
+    public int add() {
+        if (size == parents.length) {
+            parents = Arrays.copyOf(parents, 2 * size);
+            ranks = Arrays.copyOf(ranks, 2 * size);
+        }
+        parents[size] = size;
+        ranks[size] = 0;
+        ++setsNumber;
+        return size++;
+    }
+
+    /**
+     * @return number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return number of disjoint sets
+     */
+    public int getSetsNumber() {
+        return setsNumber;
+    }
+
+    /**
+     * @param element element to look up
+     * @return representative of a set containing element
+     */
+    public int find(int element) {
+        int root = element;
+        while (parents[root] != root) {
+            root = parents[root];
+        }
+        while (parents[element] != root) {
+            int next = parents[element];
+            parents[element] = root;
+            element = next;
+        }
+        return root;
+    }
+
+    /**
+     * Merges sets containing two elements
+     *
+     * @return true if elements were in different sets
+     */
+    public boolean union(int first, int second) {
+        first = find(first);
+        second = find(second);
+        if (first == second) return false;
+        if (ranks[first] < ranks[second]) {
+            int swap = first;
+            first = second;
+            second = swap;
+        }
+        parents[second] = first;
+        if (ranks[first] == ranks[second]) ++ranks[first];
+        --setsNumber;
+        return true;
+    }
+
+    /**
+     * @return true if elements are in the same set
+     */
+    public boolean isSameSet(int first, int second) {
+        return find(first) == find(second);
+    }
+}
@@ -0,0 +1,390 @@
+package com.company.Graphs.Algorithms;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Connectivity of an undirected graph under insertions and deletions of edges
+ * (Holm, de Lichtenberg and Thorup). Each edge has a level, forest F(i) consists of tree edges with level at least i,
+ * F(0) is a spanning forest of a graph. Trees of each forest are stored as Euler tours in treaps, so linking,
+ * cutting and checking connectivity take O(log n). When a tree edge of level l is deleted, replacement is searched
+ * from level l down to 0 in the smaller of two parts, and checked edges are moved one level up,
+ * so each edge is checked O(log n) times in total, and deletion takes O(log^2 n) amortized time.
+ * Vertexes are int ids, ids of removed vertexes are reused
+ */
+public class DynamicConnectivity {
+    private final List<Vertex> vertexes = new ArrayList<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+    private final Map<Long, Edge> edges = new HashMap<>();
+    private final Random random = new Random();
+    private int componentsNumber = 0;
+
+    /**
+     * Node of a treap that stores Euler tour of a tree: either a vertex (once per tree) or a directed copy of an edge
+     */
+    private static class Node {
+        private final int vertex;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private Node parent;
+        private int size = 1;
+        private int vertexesNumber;
+        private boolean hasTreeEdges;
+        private boolean hasNonTreeEdges;
+        private boolean subtreeHasTreeEdges;
+        private boolean subtreeHasNonTreeEdges;
+
+        private Node(int vertex, int priority) {
+            this.vertex = vertex;
+            this.priority = priority;
+            vertexesNumber = vertex == -1 ? 0 : 1;
+        }
+    }
+
+    private static class Vertex {
+        private final List<Node> nodes = new ArrayList<>();
+        private final List<Set<Integer>> treeEdges = new ArrayList<>();
+        private final List<Set<Integer>> nonTreeEdges = new ArrayList<>();
+    }
+
+    private static class Edge {
+        private final int first;
+        private final int second;
+        private final List<Node> forwardArcs = new ArrayList<>();
+        private final List<Node> backwardArcs = new ArrayList<>();
+        private int level = 0;
+        private boolean tree = false;
+
+        private Edge(int first, int second) {
+            this.first = first;
+            this.second = second;
+        }
+    }
+
+    private static long getKey(int first, int second) {
+        return ((long) Math.min(first, second) << 32) | Math.max(first, second);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void update(Node node) {
+        node.size = 1;
+        node.vertexesNumber = node.vertex == -1 ? 0 : 1;
+        node.subtreeHasTreeEdges = node.hasTreeEdges;
+        node.subtreeHasNonTreeEdges = node.hasNonTreeEdges;
+        for (Node child : new Node[]{node.left, node.right}) {
+            if (child == null) continue;
+            node.size += child.size;
+            node.vertexesNumber += child.vertexesNumber;
+            node.subtreeHasTreeEdges |= child.subtreeHasTreeEdges;
+            node.subtreeHasNonTreeEdges |= child.subtreeHasNonTreeEdges;
+        }
+    }
+
+    private static Node getRoot(Node node) {
+        while (node.parent != null) {
+            node = node.parent;
+        }
+        return node;
+    }
+
+    private static int getPosition(Node node) {
+        int position = size(node.left);
+        while (node.parent != null) {
+            if (node == node.parent.right) position += size(node.parent.left) + 1;
+            node = node.parent;
+        }
+        return position;
+    }
+
+    private static Node merge(Node first, Node second) {
+        if (first == null) return second;
+        if (second == null) return first;
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            first.right.parent = first;
+            update(first);
+            return first;
+        }
+        second.left = merge(first, second.left);
+        second.left.parent = second;
+        update(second);
+        return second;
+    }
+
+    /**
+     * @return treaps with the first count nodes and with the rest nodes
+     */
+    private static Node[] split(Node root, int count) {
+        if (root == null) return new Node[2];
+        Node[] result;
+        if (size(root.left) >= count) {
+            result = split(root.left, count);
+            root.left = result[1];
+            if (root.left != null) root.left.parent = root;
+            result[1] = root;
+        } else {
+            result = split(root.right, count - size(root.left) - 1);
+            root.right = result[0];
+            if (root.right != null) root.right.parent = root;
+            result[0] = root;
+        }
+        update(root);
+        root.parent = null;
+        return result;
+    }
+
+    /**
+     * Rotates Euler tour so it starts from a node
+     *
+     * @return root of a treap
+     */
+    private static Node reroot(Node node) {
+        Node[] parts = split(getRoot(node), getPosition(node));
+        return merge(parts[1], parts[0]);
+    }
+
+    private static void link(Node first, Node second, Node forwardArc, Node backwardArc) {
+        merge(merge(merge(reroot(first), forwardArc), reroot(second)), backwardArc);
+    }
+
+    private static void cut(Node forwardArc, Node backwardArc) {
+        int forwardPosition = getPosition(forwardArc);
+        int backwardPosition = getPosition(backwardArc);
+        int from = Math.min(forwardPosition, backwardPosition);
+        int to = Math.max(forwardPosition, backwardPosition);
+        Node[] head = split(getRoot(forwardArc), from);
+        Node[] middle = split(head[1], to - from + 1);
+        Node[] inner = split(middle[0], 1);
+        split(inner[1], size(inner[1]) - 1);
+        merge(head[0], middle[1]);
+    }
+
+    private static Node findMarked(Node root, boolean treeEdges) {
+        Node node = root;
+        while (true) {
+            if (node.left != null && (treeEdges ? node.left.subtreeHasTreeEdges : node.left.subtreeHasNonTreeEdges))
+                node = node.left;
+            else if (treeEdges ? node.hasTreeEdges : node.hasNonTreeEdges) return node;
+            else node = node.right;
+        }
+    }
+
+    private static <E> E getOrCreate(List<E> list, int level, Supplier<E> supplier) {
+        while (list.size() <= level) {
+            list.add(supplier.get());
+        }
+        return list.get(level);
+    }
+
+    private Node getNode(int vertex, int level) {
+        return getOrCreate(vertexes.get(vertex).nodes, level, () -> new Node(vertex, random.nextInt()));
+    }
+
+    private Set<Integer> getTreeEdges(int vertex, int level) {
+        return getOrCreate(vertexes.get(vertex).treeEdges, level, HashSet::new);
+    }
+
+    private Set<Integer> getNonTreeEdges(int vertex, int level) {
+        return getOrCreate(vertexes.get(vertex).nonTreeEdges, level, HashSet::new);
+    }
+
+    private void updateMarks(int vertex, int level) {
+        Node node = getNode(vertex, level);
+        node.hasTreeEdges = !getTreeEdges(vertex, level).isEmpty();
+        node.hasNonTreeEdges = !getNonTreeEdges(vertex, level).isEmpty();
+        for (; node != null; node = node.parent) {
+            update(node);
+        }
+    }
+
+    private boolean isConnected(int first, int second, int level) {
+        return getRoot(getNode(first, level)) == getRoot(getNode(second, level));
+    }
+
+    private void addTreeEdge(Edge edge, int level) {
+        edge.level = level;
+        getTreeEdges(edge.first, level).add(edge.second);
+        getTreeEdges(edge.second, level).add(edge.first);
+        updateMarks(edge.first, level);
+        updateMarks(edge.second, level);
+    }
+
+    private void removeTreeEdge(Edge edge) {
+        getTreeEdges(edge.first, edge.level).remove(edge.second);
+        getTreeEdges(edge.second, edge.level).remove(edge.first);
+        updateMarks(edge.first, edge.level);
+        updateMarks(edge.second, edge.level);
+    }
+
+    private void addNonTreeEdge(Edge edge, int level) {
+        edge.level = level;
+        getNonTreeEdges(edge.first, level).add(edge.second);
+        getNonTreeEdges(edge.second, level).add(edge.first);
+        updateMarks(edge.first, level);
+        updateMarks(edge.second, level);
+    }
+
+    private void removeNonTreeEdge(Edge edge) {
+        getNonTreeEdges(edge.first, edge.level).remove(edge.second);
+        getNonTreeEdges(edge.second, edge.level).remove(edge.first);
+        updateMarks(edge.first, edge.level);
+        updateMarks(edge.second, edge.level);
+    }
+
+    /**
+     * Links edge into forest of a level, forests of lower levels must already contain it
+     */
+    private void linkOnLevel(Edge edge, int level) {
+        Node forwardArc = new Node(-1, random.nextInt());
+        Node backwardArc = new Node(-1, random.nextInt());
+        edge.forwardArcs.add(forwardArc);
+        edge.backwardArcs.add(backwardArc);
+        link(getNode(edge.first, level), getNode(edge.second, level), forwardArc, backwardArc);
+    }
+
+    /**
+     * @return number of vertexes
+     */
+    public int getVertexesNumber() {
+        return vertexes.size() - freeIds.size();
+    }
+
+    /**
+     * @return number of connected components
+     */
+    public int getComponentsNumber() {
+        return componentsNumber;
+    }
+
+    /**
+     * Adds an isolated vertex
+     *
+     * @return id of a new vertex
+     */
+    public int addVertex() {
+        ++componentsNumber;
+        if (!freeIds.isEmpty()) return freeIds.pop();
+        vertexes.add(new Vertex());
+        return vertexes.size() - 1;
+    }
+
+    /**
+     * Removes a vertex with all its edges, its id can be returned by next additions of vertexes
+     *
+     * @param vertex id of a vertex
+     */
+    public void removeVertex(int vertex) {
+        Vertex data = vertexes.get(vertex);
+        List<Integer> neighbours = new ArrayList<>();
+        for (Set<Integer> levelNeighbours : data.treeEdges) {
+            neighbours.addAll(levelNeighbours);
+        }
+        for (Set<Integer> levelNeighbours : data.nonTreeEdges) {
+            neighbours.addAll(levelNeighbours);
+        }
+        for (Integer neighbour : neighbours) {
+            removeEdge(vertex, neighbour);
+        }
+        vertexes.set(vertex, new Vertex());
+        freeIds.push(vertex);
+        --componentsNumber;
+    }
+
+    /**
+     * @return true if there is a path between vertexes
+     */
+    public boolean isConnected(int first, int second) {
+        return first == second || isConnected(first, second, 0);
+    }
+
+    /**
+     * Adds an edge, loops and repeated edges are ignored
+     *
+     * @return true if edge was added
+     */
+    public boolean addEdge(int first, int second) {
+        long key = getKey(first, second);
+        if (first == second || edges.containsKey(key)) return false;
+        Edge edge = new Edge(first, second);
+        edges.put(key, edge);
+        if (isConnected(first, second, 0)) {
+            addNonTreeEdge(edge, 0);
+            return true;
+        }
+        edge.tree = true;
+        linkOnLevel(edge, 0);
+        addTreeEdge(edge, 0);
+        --componentsNumber;
+        return true;
+    }
+
+    /**
+     * Removes an edge
+     *
+     * @return true if edge existed
+     */
+    public boolean removeEdge(int first, int second) {
+        Edge edge = edges.remove(getKey(first, second));
+        if (edge == null) return false;
+        if (!edge.tree) {
+            removeNonTreeEdge(edge);
+            return true;
+        }
+        removeTreeEdge(edge);
+        for (int level = 0; level <= edge.level; ++level) {
+            cut(edge.forwardArcs.get(level), edge.backwardArcs.get(level));
+        }
+        for (int level = edge.level; level >= 0; --level) {
+            if (findReplacement(edge.first, edge.second, level)) return true;
+        }
+        ++componentsNumber;
+        return true;
+    }
+
+    /**
+     * Moves tree edges of the smaller part to the next level, then checks non-tree edges of the smaller part
+     * moving edges that don't connect parts to the next level
+     *
+     * @return true if replacement edge was found and linked
+     */
+    private boolean findReplacement(int first, int second, int level) {
+        Node firstRoot = getRoot(getNode(first, level));
+        Node secondRoot = getRoot(getNode(second, level));
+        Node smaller = firstRoot.vertexesNumber <= secondRoot.vertexesNumber ? firstRoot : secondRoot;
+
+        while (smaller.subtreeHasTreeEdges) {
+            int vertex = findMarked(smaller, true).vertex;
+            for (Integer neighbour : new ArrayList<>(getTreeEdges(vertex, level))) {
+                Edge edge = edges.get(getKey(vertex, neighbour));
+                removeTreeEdge(edge);
+                addTreeEdge(edge, level + 1);
+                linkOnLevel(edge, level + 1);
+            }
+        }
+
+        while (smaller.subtreeHasNonTreeEdges) {
+            int vertex = findMarked(smaller, false).vertex;
+            Set<Integer> neighbours = getNonTreeEdges(vertex, level);
+            while (!neighbours.isEmpty()) {
+                Edge edge = edges.get(getKey(vertex, neighbours.iterator().next()));
+                removeNonTreeEdge(edge);
+                int other = edge.first == vertex ? edge.second : edge.first;
+                if (getRoot(getNode(other, level)) == smaller) {
+                    addNonTreeEdge(edge, level + 1);
+                    continue;
+                }
+                edge.tree = true;
+                for (int linked = 0; linked <= level; ++linked) {
+                    linkOnLevel(edge, linked);
+                }
+                addTreeEdge(edge, level);
+                return true;
+            }
+        }
+        return false;
+    }
+}
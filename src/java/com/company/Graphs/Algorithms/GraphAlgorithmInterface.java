@@ -3,6 +3,9 @@ package com.company.Graphs.Algorithms;
 import com.company.Graphs.GraphInterface;
 
 /**
+ * Implementations keep no state of a run in fields, so one object can run on many graphs from many threads at the same time.
+ * Implementations report visited vertexes to AlgorithmBudget.current(), so a run can be cancelled or limited
+ *
  * @param <T> return type of result of an algorithm
  * @param <E> Type of vertexId
  * @param <V> Type of values in vertex
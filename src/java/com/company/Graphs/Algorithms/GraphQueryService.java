@@ -0,0 +1,226 @@
+package com.company.Graphs.Algorithms;
+
+import com.company.Graphs.Errors.AlgorithmAbortedException;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.Implementations.CsrGraph;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service that runs many small queries (algorithms) against one graph at the same time.
+ * Queries run on an immutable snapshot of a graph taken when service is created, each query in its own thread:
+ * a virtual thread if the runtime has them (Java 21+), otherwise a thread of a fixed pool of maxConcurrency daemon threads.
+ * At most maxConcurrency queries run at the same time, others wait for a permit in their virtual threads or in a queue of a pool.
+ * Each query has a timeout that counts waiting for a permit or in a queue, the rest of it is enforced by AlgorithmBudget.
+ * Service counts finished queries and their latencies from submit to completion
+ *
+ * @param <T> Type of vertexId
+ * @param <E> Type of values in vertex
+ */
+public class GraphQueryService<T, E> implements AutoCloseable {
+    private final GraphInterface<T, E> snapshot;
+    private final ExecutorService executor;
+    private final boolean virtual;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final long timeoutNanos;
+    private final long createdAt = System.nanoTime();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder aborted = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    /**
+     * @param graph          graph to query, later changes of it are not seen by queries
+     * @param maxConcurrency maximal number of queries that run at the same time
+     * @param timeout        maximal time of a query from submit to completion
+     */
+    public GraphQueryService(GraphInterface<T, E> graph, int maxConcurrency, Duration timeout) {
+        if (maxConcurrency < 1) throw new IllegalArgumentException("Concurrency must be positive");
+        snapshot = graph instanceof CsrGraph ? graph : CsrGraph.of(graph);
+        this.maxConcurrency = maxConcurrency;
+        permits = new Semaphore(maxConcurrency);
+        timeoutNanos = timeout.toNanos();
+        ExecutorService virtualExecutor = createVirtualThreadExecutor();
+        virtual = virtualExecutor != null;
+        executor = virtual ? virtualExecutor : Executors.newFixedThreadPool(maxConcurrency, task -> {
+            Thread thread = new Thread(task, "graph-query");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Virtual threads are looked up by reflection, so the code compiles and runs on runtimes without them
+     *
+     * @return executor that starts a virtual thread per task or null if runtime has no virtual threads
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | ClassCastException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Submits a query. Cancelling of a returned future stops a query,
+     * query that runs out of time completes with AlgorithmAbortedException.
+     * Counters of a service are updated before a returned future completes
+     *
+     * @param algorithm algorithm to run on a snapshot of a graph
+     * @param <P>       type of result
+     * @return future result of a query
+     */
+    public <P> CompletableFuture<P> submit(GraphAlgorithmInterface<P, T, E> algorithm) {
+        long submittedAt = System.nanoTime();
+        CompletableFuture<P> future = new CompletableFuture<>();
+        submitted.increment();
+        try {
+            executor.execute(() -> runQuery(algorithm, future, submittedAt));
+        } catch (RejectedExecutionException exception) {
+            failed.increment();
+            future.completeExceptionally(exception);
+        }
+        return future;
+    }
+
+    private <P> void runQuery(GraphAlgorithmInterface<P, T, E> algorithm, CompletableFuture<P> future, long submittedAt) {
+        P result = null;
+        Throwable error = null;
+        try {
+            if (!future.isDone()) result = runWithPermit(algorithm, future, submittedAt);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            error = exception;
+        } catch (RuntimeException | Error exception) {
+            error = exception;
+        }
+        record(future, error, System.nanoTime() - submittedAt);
+        if (error != null) {
+            future.completeExceptionally(error);
+        } else {
+            future.complete(result);
+        }
+    }
+
+    private <P> P runWithPermit(GraphAlgorithmInterface<P, T, E> algorithm, CompletableFuture<P> future, long submittedAt) throws InterruptedException {
+        long remaining = getRemainingNanos(submittedAt);
+        if (remaining <= 0 || !permits.tryAcquire(remaining, TimeUnit.NANOSECONDS)) throw createTimeoutException();
+        try {
+            remaining = getRemainingNanos(submittedAt);
+            if (remaining <= 0) throw createTimeoutException();
+            AlgorithmBudget budget = new AlgorithmBudget(Duration.ofNanos(remaining), Long.MAX_VALUE);
+            future.whenComplete((result, exception) -> {
+                if (future.isCancelled()) budget.cancel();
+            });
+            return budget.run(() -> algorithm.run(snapshot));
+        } finally {
+            permits.release();
+        }
+    }
+
+    private long getRemainingNanos(long submittedAt) {
+        return timeoutNanos - (System.nanoTime() - submittedAt);
+    }
+
+    private AlgorithmAbortedException createTimeoutException() {
+        return new AlgorithmAbortedException("Query ran longer than " + Duration.ofNanos(timeoutNanos).toMillis() + " ms");
+    }
+
+    private void record(CompletableFuture<?> future, Throwable error, long latency) {
+        if (future.isCancelled() || error instanceof AlgorithmAbortedException) {
+            aborted.increment();
+        } else if (error != null) {
+            failed.increment();
+        } else {
+            completed.increment();
+            totalLatency.add(latency);
+            maxLatency.accumulateAndGet(latency, Math::max);
+        }
+    }
+
+    /**
+     * @return true if queries run on virtual threads
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return number of queries that run now
+     */
+    public int getRunningNumber() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    public long getSubmittedNumber() {
+        return submitted.sum();
+    }
+
+    /**
+     * @return number of queries that returned a result
+     */
+    public long getCompletedNumber() {
+        return completed.sum();
+    }
+
+    /**
+     * @return number of queries that were cancelled or ran out of time
+     */
+    public long getAbortedNumber() {
+        return aborted.sum();
+    }
+
+    /**
+     * @return number of queries that threw an exception
+     */
+    public long getFailedNumber() {
+        return failed.sum();
+    }
+
+    /**
+     * @return average latency of completed queries
+     */
+    public Duration getAverageLatency() {
+        long count = completed.sum();
+        return Duration.ofNanos(count == 0 ? 0 : totalLatency.sum() / count);
+    }
+
+    /**
+     * @return maximal latency of completed queries
+     */
+    public Duration getMaxLatency() {
+        return Duration.ofNanos(maxLatency.get());
+    }
+
+    /**
+     * @return number of completed queries per second since service was created
+     */
+    public double getThroughput() {
+        long elapsed = System.nanoTime() - createdAt;
+        return elapsed == 0 ? 0 : completed.sum() * 1e9 / elapsed;
+    }
+
+    /**
+     * Stops accepting queries, already submitted queries are finished
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,143 @@
+package com.company.Graphs.Algorithms;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Indexed d-ary min-heap over int indexes from 0 to capacity - 1 with long keys.
+ * Each index is stored at most once, so its key can be decreased in place
+ */
+public class IndexedHeap {
+    private final int arity;
+    private final int[] heap;
+    private final int[] positions;
+    private final long[] keys;
+    private int size = 0;
+
+    /**
+     * @param capacity upper bound (exclusive) of indexes stored in a heap
+     * @param arity    number of children of each node of a heap
+     */
+    public IndexedHeap(int capacity, int arity) {
+        if (arity < 2) throw new IllegalArgumentException("Arity of a heap must be at least 2");
+        this.arity = arity;
+        heap = new int[capacity];
+        positions = new int[capacity];
+        keys = new long[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index index to check
+     * @return true if index is in a heap
+     */
+    public boolean contains(int index) {
+        return positions[index] != -1;
+    }
+
+    /**
+     * @param index index in a heap
+     * @return key of an index
+     */
+    public long getKey(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Adds an index with specified key or decreases key of an index already present in a heap.
+     * Nothing is changed if index is present with key not greater than specified one
+     *
+     * @param index index to add
+     * @param key   key of an index
+     */
+    public void pushOrDecrease(int index, long key) {
+        if (positions[index] == -1) {
+            keys[index] = key;
+            heap[size] = index;
+            positions[index] = size;
+            siftUp(size++);
+        } else if (key < keys[index]) {
+            keys[index] = key;
+            siftUp(positions[index]);
+        }
+    }
+
+    /**
+     * @return index with the smallest key
+     * @throws NoSuchElementException if heap is empty
+     */
+    public int peek() {
+        if (size == 0) throw new NoSuchElementException("Heap is empty");
+        return heap[0];
+    }
+
+    /**
+     * Removes index with the smallest key
+     *
+     * @return removed index
+     * @throws NoSuchElementException if heap is empty
+     */
+    public int poll() {
+        int top = peek();
+        positions[top] = -1;
+        if (--size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /**
+     * Removes all indexes from a heap
+     */
+    public void clear() {
+        for (int i = 0; i < size; ++i) {
+            positions[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void place(int position, int index) {
+        heap[position] = index;
+        positions[index] = position;
+    }
+
+    private void siftUp(int position) {
+        int index = heap[position];
+        long key = keys[index];
+        while (position > 0) {
+            int parent = (position - 1) / arity;
+            if (keys[heap[parent]] <= key) break;
+            place(position, heap[parent]);
+            position = parent;
+        }
+        place(position, index);
+    }
+
+    private void siftDown(int position) {
+        int index = heap[position];
+        long key = keys[index];
+        while (true) {
+            int firstChild = position * arity + 1;
+            if (firstChild >= size) break;
+            int best = firstChild;
+            int lastChild = Math.min(firstChild + arity, size);
+            for (int child = firstChild + 1; child < lastChild; ++child) {
+                if (keys[heap[child]] < keys[heap[best]]) best = child;
+            }
+            if (keys[heap[best]] >= key) break;
+            place(position, heap[best]);
+            position = best;
+        }
+        place(position, index);
+    }
+}
@@ -0,0 +1,126 @@
+package com.company.Graphs.Algorithms;
+
+import com.company.Graphs.IndexedGraphInterface;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * Depth-first search over indexes of an indexed graph without recursion.
+ * Path from a start vertex is kept in an explicit stack of frames stored in primitive arrays:
+ * vertex, degree and number of already walked edges. Each frame can walk edges of a vertex in random order:
+ * position of the i-th edge is (offset + i * step) mod degree with random offset and random step coprime with degree,
+ * so the order is a permutation of positions that needs no copy of the list of edges.
+ * Visited vertexes are kept between runs from different start vertexes
+ */
+public class IterativeDepthFirstSearch {
+    private static final int INITIAL_CAPACITY = 16;
+    private final IndexedGraphInterface<?, ?> graph;
+    private final Random random;
+    private final BitSet visited;
+    private int[] vertexes = new int[INITIAL_CAPACITY];
+    private int[] degrees = new int[INITIAL_CAPACITY];
+    private int[] walked = new int[INITIAL_CAPACITY];
+    private int[] offsets = new int[INITIAL_CAPACITY];
+    private int[] steps = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Decides whether search should enter a vertex
+     */
+    public interface Visitor {
+        /**
+         * Called for each edge that leads to a not visited vertex
+         *
+         * @param from index of a vertex where edge starts
+         * @param to   index of a not visited vertex where edge ends
+         * @return true if search should mark vertex visited and enter it, otherwise false
+         */
+        boolean onEdge(int from, int to);
+    }
+
+    /**
+     * @param graph  graph to search in
+     * @param random source of random order of edges or null to walk edges in order of positions
+     */
+    public IterativeDepthFirstSearch(IndexedGraphInterface<?, ?> graph, Random random) {
+        this.graph = graph;
+        this.random = random;
+        visited = new BitSet(graph.getVertexIndexBound());
+    }
+
+    /**
+     * @return indexes of vertexes visited by all runs
+     */
+    public BitSet getVisited() {
+        return visited;
+    }
+
+    /**
+     * Runs search from a vertex, does nothing if vertex was already visited
+     *
+     * @param start   index of a start vertex
+     * @param visitor decides which vertexes to enter
+     */
+    public void run(int start, Visitor visitor) {
+        if (visited.get(start)) return;
+        AlgorithmBudget budget = AlgorithmBudget.current();
+        visited.set(start);
+        push(start);
+        budget.visit();
+        while (size > 0) {
+            int top = size - 1;
+            if (walked[top] == degrees[top]) {
+                --size;
+                continue;
+            }
+            int vertex = vertexes[top];
+            int position = (int) ((offsets[top] + (long) walked[top]++ * steps[top]) % degrees[top]);
+            int to = graph.getNeighbourByIndex(vertex, position);
+            if (visited.get(to) || !visitor.onEdge(vertex, to)) continue;
+            visited.set(to);
+            push(to);
+            budget.visit();
+        }
+    }
+
+    private void push(int vertex) {
+        if (size == vertexes.length) {
+            int capacity = 2 * size;
+            vertexes = Arrays.copyOf(vertexes, capacity);
+            degrees = Arrays.copyOf(degrees, capacity);
+            walked = Arrays.copyOf(walked, capacity);
+            offsets = Arrays.copyOf(offsets, capacity);
+            steps = Arrays.copyOf(steps, capacity);
+        }
+        int degree = graph.getDegreeByIndex(vertex);
+        vertexes[size] = vertex;
+        degrees[size] = degree;
+        walked[size] = 0;
+        offsets[size] = 0;
+        steps[size] = 1;
+        if (random != null && degree > 1) {
+            offsets[size] = random.nextInt(degree);
+            steps[size] = getCoprimeStep(degree);
+        }
+        ++size;
+    }
+
+    private int getCoprimeStep(int degree) {
+        int step = 1 + random.nextInt(degree - 1);
+        while (gcd(step, degree) != 1) {
+            ++step;
+        }
+        return step;
+    }
+
+    private static int gcd(int first, int second) {
+        while (second != 0) {
+            int rest = first % second;
+            first = second;
+            second = rest;
+        }
+        return first;
+    }
+}
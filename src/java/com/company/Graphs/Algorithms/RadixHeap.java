@@ -0,0 +1,94 @@
+package com.company.Graphs.Algorithms;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Monotone radix heap of int indexes with non-negative long keys.
+ * Key of every added index must be not less than key of the last polled index.
+ * Entries are bucketed by the highest bit in which key differs from the last polled key,
+ * so each entry is moved between buckets at most 64 times
+ */
+public class RadixHeap {
+    private static final int BUCKETS_NUMBER = 65;
+    private final int[][] indexes = new int[BUCKETS_NUMBER][];
+    private final long[][] keys = new long[BUCKETS_NUMBER][];
+    private final int[] sizes = new int[BUCKETS_NUMBER];
+    private long last = 0;
+    private int size = 0;
+
+    public RadixHeap() {
+        for (int bucket = 0; bucket < BUCKETS_NUMBER; ++bucket) {
+            indexes[bucket] = new int[4];
+            keys[bucket] = new long[4];
+        }
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index index to add
+     * @param key   key of an index, must be not less than key of the last polled index
+     * @throws IllegalArgumentException if key is less than key of the last polled index
+     */
+    public void push(int index, long key) {
+        if (key < last)
+            throw new IllegalArgumentException("Key " + key + " is less than last polled key " + last);
+        add(getBucket(key), index, key);
+        ++size;
+    }
+
+    /**
+     * @return key of the last polled index
+     */
+    public long getLastKey() {
+        return last;
+    }
+
+    /**
+     * Removes index with the smallest key
+     *
+     * @return removed index
+     * @throws NoSuchElementException if heap is empty
+     */
+    public int poll() {
+        if (size == 0) throw new NoSuchElementException("Heap is empty");
+        if (sizes[0] == 0) redistribute();
+        --size;
+        return indexes[0][--sizes[0]];
+    }
+
+    private int getBucket(long key) {
+        return key == last ? 0 : 64 - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void add(int bucket, int index, long key) {
+        if (sizes[bucket] == indexes[bucket].length) {
+            indexes[bucket] = Arrays.copyOf(indexes[bucket], 2 * sizes[bucket]);
+            keys[bucket] = Arrays.copyOf(keys[bucket], 2 * sizes[bucket]);
+        }
+        indexes[bucket][sizes[bucket]] = index;
+        keys[bucket][sizes[bucket]++] = key;
+    }
+
+    private void redistribute() {
+        int bucket = 1;
+        while (sizes[bucket] == 0) ++bucket;
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < sizes[bucket]; ++i) {
+            min = Math.min(min, keys[bucket][i]);
+        }
+        last = min;
+        int count = sizes[bucket];
+        sizes[bucket] = 0;
+        for (int i = 0; i < count; ++i) {
+            add(getBucket(keys[bucket][i]), indexes[bucket][i], keys[bucket][i]);
+        }
+    }
+}
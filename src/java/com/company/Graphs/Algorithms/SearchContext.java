@@ -0,0 +1,130 @@
+package com.company.Graphs.Algorithms;
+
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+
+/**
+ * Scratch arrays of one run of a search over vertex indexes. Algorithms keep no state between runs,
+ * so one algorithm object can be run from many threads at the same time, and each run takes its arrays from here.
+ * Each thread reuses its own context between runs, so arrays aren't allocated for every query.
+ * Arrays are returned with arbitrary contents, except marks: all sets of marks are empty after acquire,
+ * which takes constant time because marks are compared with a stamp of a run instead of being cleared.
+ * If a context of a thread is already used by an outer run or a graph is bigger than MAX_POOLED_BOUND,
+ * a new context is created and dropped after close. Thread keeps its context by a soft reference,
+ * so arrays of idle threads (up to about 50 MB for MAX_POOLED_BOUND vertexes) are freed when memory is low
+ */
+public final class SearchContext implements AutoCloseable {
+    public static final int MAX_POOLED_BOUND = 1 << 20;
+    private static final int INT_SLOTS = 4;
+    private static final int LONG_SLOTS = 1;
+    private static final int MARK_SETS = 2;
+    private static final ThreadLocal<SoftReference<SearchContext>> CONTEXTS = new ThreadLocal<>();
+
+    private final int[][] ints = new int[INT_SLOTS][];
+    private final long[][] longs = new long[LONG_SLOTS][];
+    private final int[][] marks = new int[MARK_SETS][];
+    private IndexedHeap heap;
+    private int heapCapacity;
+    private int heapArity;
+    private int bound;
+    private int stamp = 0;
+    private boolean used = false;
+
+    private SearchContext() {
+    }
+
+    /**
+     * @param bound upper bound (exclusive) of vertex indexes of a graph
+     * @return context that must be closed after a run
+     */
+    public static SearchContext acquire(int bound) {
+        SearchContext context = bound <= MAX_POOLED_BOUND ? getPooled() : null;
+        if (context == null || context.used) context = new SearchContext();
+        context.used = true;
+        context.bound = bound;
+        if (++context.stamp == 0) {
+            for (int[] set : context.marks) {
+                if (set != null) Arrays.fill(set, 0);
+            }
+            context.stamp = 1;
+        }
+        return context;
+    }
+
+    private static SearchContext getPooled() {
+        SoftReference<SearchContext> reference = CONTEXTS.get();
+        SearchContext context = reference == null ? null : reference.get();
+        if (context == null) {
+            context = new SearchContext();
+            CONTEXTS.set(new SoftReference<>(context));
+        }
+        return context;
+    }
+
+    /**
+     * @param slot number of an array from 0 to 3
+     * @return array with at least bound elements
+     */
+    public int[] getInts(int slot) {
+        if (ints[slot] == null || ints[slot].length < bound) ints[slot] = new int[bound];
+        return ints[slot];
+    }
+
+    /**
+     * @param slot number of an array, only 0 is available
+     * @return array with at least bound elements
+     */
+    public long[] getLongs(int slot) {
+        if (longs[slot] == null || longs[slot].length < bound) longs[slot] = new long[bound];
+        return longs[slot];
+    }
+
+    /**
+     * @param arity number of children of each node of a heap
+     * @return empty heap for indexes below bound
+     */
+    public IndexedHeap getHeap(int arity) {
+        if (heap == null || heapCapacity < bound || heapArity != arity) {
+            heap = new IndexedHeap(bound, arity);
+            heapCapacity = bound;
+            heapArity = arity;
+        } else {
+            heap.clear();
+        }
+        return heap;
+    }
+
+    private int[] getMarks(int set) {
+        if (marks[set] == null || marks[set].length < bound) marks[set] = new int[bound];
+        return marks[set];
+    }
+
+    /**
+     * @param set   number of a set of marks, 0 or 1
+     * @param index index of a vertex
+     * @return true if vertex is marked in a set during this run
+     */
+    public boolean isMarked(int set, int index) {
+        return getMarks(set)[index] == stamp;
+    }
+
+    /**
+     * @param set   number of a set of marks, 0 or 1
+     * @param index index of a vertex
+     * @return true if vertex was not marked in a set before
+     */
+    public boolean mark(int set, int index) {
+        int[] setMarks = getMarks(set);
+        if (setMarks[index] == stamp) return false;
+        setMarks[index] = stamp;
+        return true;
+    }
+
+    /**
+     * Returns context to a thread, arrays must not be used after it
+     */
+    @Override
+    public void close() {
+        used = false;
+    }
+}
@@ -1,65 +1,139 @@
 package com.company.Graphs.Algorithms;
 
 import com.company.Graphs.GraphInterface;
+import com.company.Graphs.GraphInterface.PointType;
+import com.company.Graphs.IndexedGraphInterface;
 import javafx.util.Pair;
-import sun.misc.Queue;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.*;
 
+/**
+ * Result of a traversing algorithm stored by indexes of vertexes: parent of each vertex in an int array
+ * and visited free points in order of a result in another int array, so result takes a few bytes per vertex.
+ * Paths are restored only when they are requested
+ *
+ * @param <T> Type of vertexId
+ */
 public class TraversAlgorithmsResult<T> {
-    private final List<T> visited;
-    private final List<Pair<T, T>> restoredPaths;
+    private static final int NOT_REACHED = -2;
+    private static final int ROOT = -1;
+    private final IndexedGraphInterface<T, ?> graph;
+    private final int[] parents;
+    private final int[] visited;
+    private List<Pair<T, T>> restoredPaths;
 
+    /**
+     * @param paths map, where value represents point and key it parent, as returned by traversing algorithms
+     * @param graph graph on which algorithm was run
+     */
     public <E> TraversAlgorithmsResult(Map<T, T> paths, GraphInterface<T, E> graph) {
-        visited = extractVisitedPoints(paths, graph);
-        restoredPaths = restorePathFromFinishes(paths, graph);
-    }
-
-    public TraversAlgorithmsResult(List<T> visited, List<Pair<T, T>> restoredPaths) {
-        this.visited = visited;
-        this.restoredPaths = restoredPaths;
+        this.graph = IndexedGraphInterface.of(graph);
+        parents = new int[this.graph.getVertexIndexBound()];
+        Arrays.fill(parents, NOT_REACHED);
+        int[] order = new int[paths.size()];
+        int size = 0;
+        for (Map.Entry<T, T> entry : paths.entrySet()) {
+            int index = this.graph.getVertexIndex(entry.getKey());
+            if (index == -1) continue;
+            parents[index] = entry.getValue() == null ? ROOT : this.graph.getVertexIndex(entry.getValue());
+            if (this.graph.getPointTypeByIndex(index) == PointType.FREE) order[size++] = index;
+        }
+        for (int index = 0; index < parents.length; ++index) {
+            int parent = parents[index];
+            if (parent >= 0 && parents[parent] == NOT_REACHED) parents[parent] = ROOT;
+        }
+        visited = Arrays.copyOf(order, size);
     }
 
+    /**
+     * @return free points visited by an algorithm in order of a result
+     */
     public List<T> getVisited() {
-        return visited;
-    }
+        return new AbstractList<T>() {
+            @Override
+            public T get(int index) {
+                return graph.getVertexByIndex(visited[index]);
+            }
 
-    public List<Pair<T, T>> getRestoredPaths() {
-        return restoredPaths;
+            @Override
+            public int size() {
+                return visited.length;
+            }
+        };
     }
 
-    private <E> List<T> extractVisitedPoints(Map<T, T> paths, GraphInterface<T, E> graph) {
-        Set<T> points = paths.keySet();
-        return points.stream().filter(graph::isFreePoint).collect(Collectors.toList());
+    /**
+     * @param point point of a graph
+     * @return true if point is visited by an algorithm or is a start of a path
+     */
+    public boolean isReached(T point) {
+        int index = graph.getVertexIndex(point);
+        return index != -1 && parents[index] != NOT_REACHED;
     }
 
-    private <E> Queue<T> getQueueForRestoringPaths(GraphInterface<T, E> graph) {
-        Queue<T> queue = new Queue<>();
-        graph.getPointsOfType(GraphInterface.PointType.FINISH).forEach(queue::enqueue);
-        return queue;
+    /**
+     * @param point point of a graph
+     * @return number of edges in a path from a start to a point, -1 if point is not reached
+     */
+    public int getPathLength(T point) {
+        if (!isReached(point)) return -1;
+        int length = 0;
+        for (int index = parents[graph.getVertexIndex(point)]; index >= 0; index = parents[index]) {
+            ++length;
+        }
+        return length;
     }
 
-    private void makeNextIterationOfPathRestoration(Queue<T> queue, List<Pair<T, T>> result, Map<T, T> paths) {
-        try {
-            T point = queue.dequeue();
-            if (point == null) return;
-            result.add(new Pair<>(point, paths.get(point)));
-            queue.enqueue(paths.getOrDefault(point, null));
-        } catch (InterruptedException ignored) {
-        }
+    /**
+     * Walks a path without copying it
+     *
+     * @param point point of a graph
+     * @return iterator over points of a path from a specified point back to a start, empty if point is not reached
+     */
+    public Iterator<T> iteratePath(T point) {
+        int start = isReached(point) ? graph.getVertexIndex(point) : ROOT;
+        return new Iterator<T>() {
+            private int next = start;
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public T next() {
+                if (next < 0) throw new NoSuchElementException();
+                T vertex = graph.getVertexByIndex(next);
+                next = parents[next];
+                return vertex;
+            }
+        };
     }
 
-    private <E> List<Pair<T, T>> restorePathFromFinishes(Map<T, T> paths, GraphInterface<T, E> graph) {
-        List<Pair<T, T>> result = new ArrayList<>();
-        Queue<T> queue = getQueueForRestoringPaths(graph);
-        while (!queue.isEmpty()) {
-            makeNextIterationOfPathRestoration(queue, result, paths);
+    /**
+     * Restores paths from all finish points at the same time, one step of each path in turn.
+     * List is built on the first call
+     *
+     * @return list of pairs of a point and its parent, the last pair of each path has null parent
+     */
+    public List<Pair<T, T>> getRestoredPaths() {
+        if (restoredPaths != null) return restoredPaths;
+        int[] current = new int[graph.getPointsOfType(PointType.FINISH).size()];
+        int active = 0;
+        for (T finish : graph.getPointsOfType(PointType.FINISH)) {
+            int index = graph.getVertexIndex(finish);
+            if (index != -1) current[active++] = index;
         }
-        return result;
+        restoredPaths = new ArrayList<>();
+        while (active > 0) {
+            int kept = 0;
+            for (int i = 0; i < active; ++i) {
+                int parent = parents[current[i]];
+                restoredPaths.add(new Pair<>(graph.getVertexByIndex(current[i]), parent >= 0 ? graph.getVertexByIndex(parent) : null));
+                if (parent >= 0) current[kept++] = parent;
+            }
+            active = kept;
+        }
+        return restoredPaths;
     }
-
 }
@@ -0,0 +1,17 @@
+package com.company.Graphs.Algorithms.TraversingAlgorithms;
+
+/**
+ * Estimation of a distance between two vertexes used by A* algorithm.
+ * To find shortest paths estimation must never exceed real distance
+ *
+ * @param <T> Type of vertexId
+ */
+@FunctionalInterface
+public interface AStarHeuristic<T> {
+    /**
+     * @param vertex id of a vertex
+     * @param finish id of a finish vertex
+     * @return estimated distance from vertex to finish
+     */
+    long estimate(T vertex, T finish);
+}
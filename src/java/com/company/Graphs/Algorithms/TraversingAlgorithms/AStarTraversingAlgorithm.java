@@ -0,0 +1,117 @@
+package com.company.Graphs.Algorithms.TraversingAlgorithms;
+
+import com.company.Graphs.Algorithms.AlgorithmBudget;
+import com.company.Graphs.Algorithms.IndexedHeap;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.GraphInterface.PointType;
+import com.company.Graphs.IndexedGraphInterface;
+
+import java.util.*;
+
+/**
+ * Class for running A* algorithm from source points to the closest finish point omitting blocks points.
+ * Among vertexes with the same estimated path length the one closer to a finish is expanded first.
+ * Returns map of expanded vertexes in order of expansion, so its size is the number of expanded vertexes
+ *
+ * @param <T> Type of vertexId
+ */
+public class AStarTraversingAlgorithm<T> implements GraphTraversingAlgorithm<T, Integer> {
+    private static final int HEAP_ARITY = 4;
+    private final AStarHeuristic<T> heuristic;
+
+    /**
+     * @param heuristic estimation of a distance to a finish, must never exceed real distance
+     */
+    public AStarTraversingAlgorithm(AStarHeuristic<T> heuristic) {
+        this.heuristic = heuristic;
+    }
+
+    /**
+     * Key orders by estimated path length and then by larger distance from a source
+     */
+    private static long getKey(long distance, long estimate) {
+        return (distance + estimate) << 31 | (Integer.MAX_VALUE - Math.min(distance, Integer.MAX_VALUE));
+    }
+
+    private long estimate(IndexedGraphInterface<T, Integer> graph, Context context, int index) {
+        if (context.estimates[index] != -1) return context.estimates[index];
+        long result = context.finishes.isEmpty() ? 0 : Long.MAX_VALUE;
+        T vertex = graph.getVertexByIndex(index);
+        for (T finish : context.finishes) {
+            result = Math.min(result, heuristic.estimate(vertex, finish));
+        }
+        return context.estimates[index] = result;
+    }
+
+    private void addVertexes(IndexedGraphInterface<T, Integer> graph, Context context, int point) {
+        int degree = graph.getDegreeByIndex(point);
+        for (int position = 0; position < degree; ++position) {
+            int to = graph.getNeighbourByIndex(point, position);
+            if (context.closed.get(to) || graph.getPointTypeByIndex(to) == PointType.BLOCKS) continue;
+            long distance = context.distances[point] + graph.getEdgeWeightByIndex(point, position);
+            if (distance < context.distances[to]) {
+                context.distances[to] = distance;
+                context.parents[to] = point;
+                context.open.pushOrDecrease(to, getKey(distance, estimate(graph, context, to)));
+            }
+        }
+    }
+
+    private Map<T, T> aStar(IndexedGraphInterface<T, Integer> graph) {
+        Context context = new Context(graph);
+        for (T point : graph.getPointsOfType(PointType.SOURCE)) {
+            int index = graph.getVertexIndex(point);
+            if (index == -1) continue;
+            context.distances[index] = 0;
+            context.open.pushOrDecrease(index, getKey(0, estimate(graph, context, index)));
+        }
+
+        Map<T, T> result = new LinkedHashMap<>();
+        AlgorithmBudget budget = AlgorithmBudget.current();
+        while (!context.open.isEmpty()) {
+            int point = context.open.poll();
+            context.closed.set(point);
+            budget.visit();
+            result.put(graph.getVertexByIndex(point), context.parents[point] == -1 ? null : graph.getVertexByIndex(context.parents[point]));
+            if (graph.getPointTypeByIndex(point) == PointType.FINISH) break;
+            addVertexes(graph, context, point);
+        }
+        return result;
+    }
+
+    /**
+     * Runs A* algorithm
+     *
+     * @param graph on which to run algorithm
+     * @return map, where value represents point and key it parent
+     */
+    @Override
+    public Map<T, T> run(GraphInterface<T, Integer> graph) {
+        return aStar(IndexedGraphInterface.of(graph));
+    }
+
+    /**
+     * State of a single run of an algorithm
+     */
+    private class Context {
+        private final List<T> finishes;
+        private final BitSet closed;
+        private final long[] distances;
+        private final long[] estimates;
+        private final int[] parents;
+        private final IndexedHeap open;
+
+        private Context(IndexedGraphInterface<T, Integer> graph) {
+            int bound = graph.getVertexIndexBound();
+            finishes = new ArrayList<>(graph.getPointsOfType(PointType.FINISH));
+            closed = new BitSet(bound);
+            distances = new long[bound];
+            estimates = new long[bound];
+            parents = new int[bound];
+            open = new IndexedHeap(bound, HEAP_ARITY);
+            Arrays.fill(distances, Long.MAX_VALUE);
+            Arrays.fill(estimates, -1);
+            Arrays.fill(parents, -1);
+        }
+    }
+}
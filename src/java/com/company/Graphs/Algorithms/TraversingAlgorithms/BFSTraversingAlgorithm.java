@@ -1,51 +1,38 @@
 package com.company.Graphs.Algorithms.TraversingAlgorithms;
 
-import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Algorithms.AlgorithmBudget;
+import com.company.Graphs.Algorithms.SearchContext;
 import com.company.Graphs.GraphInterface;
 import com.company.Graphs.GraphInterface.PointType;
-import sun.misc.Queue;
+import com.company.Graphs.IndexedGraphInterface;
 
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 
 /**
- * Class for running BFS algorithm from source points to finish points omitting blocks points
+ * Class for running BFS algorithm from source points to finish points omitting blocks points.
+ * Arrays of a run are taken from SearchContext, so one object can be run from many threads at the same time
  */
 public class BFSTraversingAlgorithm<T, E> implements GraphTraversingAlgorithm<T, E> {
-    private final Queue<T> queue = new Queue<>();
-    private final Set<T> visited = new HashSet<>();
 
     public BFSTraversingAlgorithm() {
     }
 
-    private void setUpQueue(GraphInterface<T, E> graph) {
+    private int setUpQueue(IndexedGraphInterface<T, E> graph, int[] queue) {
+        int size = 0;
         for (T start : graph.getPointsOfType(PointType.SOURCE)) {
-            queue.enqueue(start);
+            int index = graph.getVertexIndex(start);
+            if (index != -1) queue[size++] = index;
         }
+        return size;
     }
 
-    private void addNeighbours(GraphInterface<T, E> graph, Map<T, T> result, T current) throws NoSuchVertexException {
-        for (T neighbour : graph.getAllDirectlyConnectedVertexes(current)) {
-            if (visited.contains(neighbour) || result.containsKey(neighbour)) continue;
-            if (graph.getPointsOfType(PointType.BLOCKS).contains(neighbour)) continue;
-            if (graph.getPointsOfType(PointType.SOURCE).contains(neighbour)) continue;
-            result.put(neighbour, current);
-            if (graph.getPointsOfType(PointType.FINISH).contains(neighbour)) continue;
-            queue.enqueue(neighbour);
-        }
-    }
-
-    private void makeBFSNextIteration(GraphInterface<T, E> graph, Map<T, T> result) {
-        try {
-            T current = queue.dequeue();
-            if (visited.contains(current)) return;
-            addNeighbours(graph, result, current);
-            visited.add(current);
-        } catch (InterruptedException | NoSuchVertexException e) {
-            e.printStackTrace();
+    private Map<T, T> collectResult(IndexedGraphInterface<T, E> graph, int[] order, int size, int[] parents) {
+        Map<T, T> result = new LinkedHashMap<>();
+        for (int i = 0; i < size; ++i) {
+            result.put(graph.getVertexByIndex(order[i]), graph.getVertexByIndex(parents[order[i]]));
         }
+        return result;
     }
 
     /**
@@ -56,13 +43,33 @@ public class BFSTraversingAlgorithm<T, E> implements GraphTraversingAlgorithm<T,
      */
     @Override
     public Map<T, T> run(GraphInterface<T, E> graph) {
-        setUpQueue(graph);
-        Map<T, T> result = new LinkedHashMap<>();
-        while (!queue.isEmpty()) {
-            makeBFSNextIteration(graph, result);
+        IndexedGraphInterface<T, E> indexed = IndexedGraphInterface.of(graph);
+        try (SearchContext context = SearchContext.acquire(indexed.getVertexIndexBound())) {
+            int[] queue = context.getInts(0);
+            int[] order = context.getInts(1);
+            int[] parents = context.getInts(2);
+            int tail = setUpQueue(indexed, queue);
+            int discoveredNumber = 0;
+            AlgorithmBudget budget = AlgorithmBudget.current();
+
+            for (int head = 0; head < tail; ++head) {
+                budget.visit();
+                int current = queue[head];
+                int degree = indexed.getDegreeByIndex(current);
+                for (int position = 0; position < degree; ++position) {
+                    int neighbour = indexed.getNeighbourByIndex(current, position);
+                    if (context.isMarked(0, neighbour)) continue;
+                    PointType type = indexed.getPointTypeByIndex(neighbour);
+                    if (type == PointType.BLOCKS || type == PointType.SOURCE) continue;
+                    context.mark(0, neighbour);
+                    parents[neighbour] = current;
+                    order[discoveredNumber++] = neighbour;
+                    if (type == PointType.FINISH) continue;
+                    queue[tail++] = neighbour;
+                }
+            }
+            return collectResult(indexed, order, discoveredNumber, parents);
         }
-        visited.clear();
-        return result;
     }
 
 }
@@ -1,10 +1,12 @@
 package com.company.Graphs.Algorithms.TraversingAlgorithms;
 
-import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Algorithms.IterativeDepthFirstSearch;
 import com.company.Graphs.GraphInterface;
 import com.company.Graphs.GraphInterface.*;
+import com.company.Graphs.IndexedGraphInterface;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 
 /**
@@ -12,23 +14,20 @@ import java.util.*;
  * Returns Map, where value represents point and key it parent
  */
 public class DFSTraversingAlgorithm<T, E> implements GraphTraversingAlgorithm<T, E> {
-    private final Set<T> visited = new HashSet<>();
+    private final boolean randomOrder;
 
+    /**
+     * Creates algorithm that walks edges of each vertex in random order
+     */
     public DFSTraversingAlgorithm() {
+        this(true);
     }
 
-    private void dfs(T point, GraphInterface<T, E> graph, Map<T, T> result) throws NoSuchVertexException {
-        if (visited.contains(point)) return;
-        visited.add(point);
-        List<T> neighbours = new ArrayList<>(graph.getAllDirectlyConnectedVertexes(point));
-        Collections.shuffle(neighbours);
-        for (T to : neighbours) {
-            if (visited.contains(to)) continue;
-            if (graph.getPointsOfType(PointType.BLOCKS).contains(to)) continue;
-            result.put(to, point);
-            if (graph.getPointsOfType(PointType.FINISH).contains(to)) continue;
-            dfs(to, graph, result);
-        }
+    /**
+     * @param randomOrder true to walk edges of each vertex in random order, false to walk them in order of a graph
+     */
+    public DFSTraversingAlgorithm(boolean randomOrder) {
+        this.randomOrder = randomOrder;
     }
 
     /**
@@ -39,16 +38,19 @@ public class DFSTraversingAlgorithm<T, E> implements GraphTraversingAlgorithm<T,
      */
     @Override
     public Map<T, T> run(GraphInterface<T, E> graph) {
+        IndexedGraphInterface<T, E> indexed = IndexedGraphInterface.of(graph);
+        IterativeDepthFirstSearch search = new IterativeDepthFirstSearch(indexed, randomOrder ? ThreadLocalRandom.current() : null);
         Map<T, T> result = new LinkedHashMap<>();
-        for (T start : graph.getPointsOfType(PointType.SOURCE)) {
-            try {
-                dfs(start, graph, result);
-            } catch (NoSuchVertexException e) {
-                e.printStackTrace();
-            }
+        IterativeDepthFirstSearch.Visitor visitor = (from, to) -> {
+            PointType type = indexed.getPointTypeByIndex(to);
+            if (type == PointType.BLOCKS) return false;
+            result.put(indexed.getVertexByIndex(to), indexed.getVertexByIndex(from));
+            return type != PointType.FINISH;
+        };
+        for (T start : indexed.getPointsOfType(PointType.SOURCE)) {
+            int index = indexed.getVertexIndex(start);
+            if (index != -1) search.run(index, visitor);
         }
-
-        visited.clear();
         return result;
     }
 
@@ -0,0 +1,263 @@
+package com.company.Graphs.Algorithms.TraversingAlgorithms;
+
+import com.company.Graphs.Algorithms.AlgorithmBudget;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.IndexedGraphInterface;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Class for running delta-stepping single source shortest paths algorithm from source points on graphs with
+ * non-negative integer weights. Vertexes are kept in buckets of width delta by their distance, the smallest bucket
+ * is emptied by relaxing light edges (not heavier than delta) in parallel until no vertex returns to it,
+ * then heavy edges of all its vertexes are relaxed in parallel. Work is done in a fork join pool
+ */
+public class DeltaSteppingTraversingAlgorithm<T> implements GraphTraversingAlgorithm<T, Integer> {
+    private static final long CHOSEN_BY_GRAPH = 0;
+    private static final int GRAIN = 256;
+    private static final int LOCKS_NUMBER = 1024;
+    private final long delta;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates algorithm that chooses width of buckets for each graph as maximal weight of an edge
+     * divided by average number of edges of a vertex
+     */
+    public DeltaSteppingTraversingAlgorithm() {
+        this.delta = CHOSEN_BY_GRAPH;
+        this.pool = ForkJoinPool.commonPool();
+    }
+
+    /**
+     * @param delta width of buckets
+     */
+    public DeltaSteppingTraversingAlgorithm(long delta) {
+        this(delta, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param delta width of buckets
+     * @param pool  pool in which edges are relaxed
+     */
+    public DeltaSteppingTraversingAlgorithm(long delta, ForkJoinPool pool) {
+        if (delta < 1) throw new IllegalArgumentException("Width of buckets must be positive");
+        this.delta = delta;
+        this.pool = pool;
+    }
+
+    private static class IntList {
+        private int[] values = new int[16];
+        private int size = 0;
+
+        private void add(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, 2 * size);
+            values[size++] = value;
+        }
+
+        private void addAll(IntList other) {
+            if (size + other.size > values.length) values = Arrays.copyOf(values, Math.max(2 * values.length, size + other.size));
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+        }
+    }
+
+    private interface RangeAction {
+        void run(int from, int to, IntList changed);
+    }
+
+    /**
+     * Runs action on a range in parallel and collects vertexes which distances were changed
+     */
+    private static class CollectTask extends RecursiveTask<IntList> {
+        private final RangeAction action;
+        private final int from;
+        private final int to;
+
+        private CollectTask(RangeAction action, int from, int to) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected IntList compute() {
+            if (to - from <= GRAIN) {
+                IntList changed = new IntList();
+                action.run(from, to, changed);
+                return changed;
+            }
+            int middle = (from + to) >>> 1;
+            CollectTask left = new CollectTask(action, from, middle);
+            left.fork();
+            IntList right = new CollectTask(action, middle, to).compute();
+            IntList changed = left.join();
+            changed.addAll(right);
+            return changed;
+        }
+    }
+
+    private class Search {
+        private final IndexedGraphInterface<T, Integer> graph;
+        private final long width;
+        private final AtomicLongArray distances;
+        private final int[] parents;
+        private final Object[] locks = new Object[LOCKS_NUMBER];
+        private final TreeMap<Long, IntList> buckets = new TreeMap<>();
+        private final BitSet queued;
+        private final BitSet settled;
+        private final IntList order = new IntList();
+
+        private Search(IndexedGraphInterface<T, Integer> graph, long width) {
+            this.graph = graph;
+            this.width = width;
+            int bound = graph.getVertexIndexBound();
+            distances = new AtomicLongArray(bound);
+            parents = new int[bound];
+            queued = new BitSet(bound);
+            settled = new BitSet(bound);
+            for (int index = 0; index < bound; ++index) {
+                distances.set(index, Long.MAX_VALUE);
+            }
+            Arrays.fill(parents, -1);
+            for (int lock = 0; lock < LOCKS_NUMBER; ++lock) {
+                locks[lock] = new Object();
+            }
+        }
+
+        private void relax(int to, long distance, int parent, IntList changed) {
+            if (distance >= distances.get(to)) return;
+            synchronized (locks[to % LOCKS_NUMBER]) {
+                if (distance >= distances.get(to)) return;
+                distances.set(to, distance);
+                parents[to] = parent;
+            }
+            changed.add(to);
+        }
+
+        private IntList relaxEdges(int[] vertexes, boolean light) {
+            return pool.invoke(new CollectTask((from, to, changed) -> {
+                for (int i = from; i < to; ++i) {
+                    int vertex = vertexes[i];
+                    long distance = distances.get(vertex);
+                    int degree = graph.getDegreeByIndex(vertex);
+                    for (int position = 0; position < degree; ++position) {
+                        int weight = graph.getEdgeWeightByIndex(vertex, position);
+                        if (weight < 0)
+                            throw new IllegalArgumentException("Edge of " + graph.getVertexByIndex(vertex) + " has negative weight");
+                        if ((weight <= width) != light) continue;
+                        relax(graph.getNeighbourByIndex(vertex, position), distance + weight, vertex, changed);
+                    }
+                }
+            }, 0, vertexes.length));
+        }
+
+        private void addToBuckets(IntList vertexes) {
+            for (int i = 0; i < vertexes.size; ++i) {
+                int vertex = vertexes.values[i];
+                buckets.computeIfAbsent(distances.get(vertex) / width, bucket -> new IntList()).add(vertex);
+            }
+        }
+
+        /**
+         * Removes outdated and repeated entries of a bucket
+         */
+        private int[] getFrontier(IntList entries, long bucket) {
+            IntList frontier = new IntList();
+            for (int i = 0; i < entries.size; ++i) {
+                int vertex = entries.values[i];
+                if (queued.get(vertex) || distances.get(vertex) / width != bucket) continue;
+                queued.set(vertex);
+                frontier.add(vertex);
+            }
+            int[] result = Arrays.copyOf(frontier.values, frontier.size);
+            for (int vertex : result) {
+                queued.clear(vertex);
+            }
+            return result;
+        }
+
+        private void run() {
+            IntList sources = new IntList();
+            for (T point : graph.getPointsOfType(GraphInterface.PointType.SOURCE)) {
+                int index = graph.getVertexIndex(point);
+                if (index == -1) continue;
+                distances.set(index, 0);
+                sources.add(index);
+            }
+            addToBuckets(sources);
+            AlgorithmBudget budget = AlgorithmBudget.current();
+            while (!buckets.isEmpty()) {
+                long bucket = buckets.firstKey();
+                IntList emptied = new IntList();
+                while (buckets.containsKey(bucket)) {
+                    int[] frontier = getFrontier(buckets.remove(bucket), bucket);
+                    budget.visit(frontier.length);
+                    for (int vertex : frontier) {
+                        if (settled.get(vertex)) continue;
+                        settled.set(vertex);
+                        emptied.add(vertex);
+                    }
+                    addToBuckets(relaxEdges(frontier, true));
+                }
+                addToBuckets(relaxEdges(Arrays.copyOf(emptied.values, emptied.size), false));
+                order.addAll(emptied);
+            }
+        }
+
+        private ShortestPathsTree<T> collectResult() {
+            Map<T, T> result = new LinkedHashMap<>();
+            for (int i = 0; i < order.size; ++i) {
+                int vertex = order.values[i];
+                result.put(graph.getVertexByIndex(vertex), parents[vertex] == -1 ? null : graph.getVertexByIndex(parents[vertex]));
+            }
+            long[] resultDistances = new long[distances.length()];
+            for (int index = 0; index < resultDistances.length; ++index) {
+                resultDistances[index] = distances.get(index);
+            }
+            return new ShortestPathsTree<>(graph, result, resultDistances);
+        }
+    }
+
+    private long chooseDelta(IndexedGraphInterface<T, Integer> graph) {
+        int bound = graph.getVertexIndexBound();
+        long edges = 0;
+        long maxWeight = 1;
+        for (int index = 0; index < bound; ++index) {
+            int degree = graph.getDegreeByIndex(index);
+            edges += degree;
+            for (int position = 0; position < degree; ++position) {
+                maxWeight = Math.max(maxWeight, graph.getEdgeWeightByIndex(index, position));
+            }
+        }
+        return edges == 0 ? 1 : Math.max(1, maxWeight * bound / edges);
+    }
+
+    /**
+     * Runs delta-stepping algorithm, graph must not be changed while algorithm runs
+     *
+     * @param graph on which to run algorithm, all edges must have non-negative weights
+     * @return parents of reached points in order of buckets and distances of all vertexes from sources
+     * @throws IllegalArgumentException if graph has an edge with negative weight
+     */
+    public ShortestPathsTree<T> runWithDistances(GraphInterface<T, Integer> graph) {
+        IndexedGraphInterface<T, Integer> indexed = IndexedGraphInterface.of(graph);
+        Search search = new Search(indexed, delta == CHOSEN_BY_GRAPH ? chooseDelta(indexed) : delta);
+        search.run();
+        return search.collectResult();
+    }
+
+    /**
+     * Runs delta-stepping algorithm, graph must not be changed while algorithm runs
+     *
+     * @param graph on which to run algorithm, all edges must have non-negative weights
+     * @return map, where value represents point and key it parent
+     * @throws IllegalArgumentException if graph has an edge with negative weight
+     */
+    @Override
+    public Map<T, T> run(GraphInterface<T, Integer> graph) {
+        return runWithDistances(graph).getParents();
+    }
+}
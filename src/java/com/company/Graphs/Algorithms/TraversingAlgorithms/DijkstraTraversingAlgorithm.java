@@ -1,67 +1,99 @@
 package com.company.Graphs.Algorithms.TraversingAlgorithms;
 
-import com.company.Graphs.Algorithms.Tuple;
-import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Algorithms.AlgorithmBudget;
+import com.company.Graphs.Algorithms.IndexedHeap;
+import com.company.Graphs.Algorithms.SearchContext;
 import com.company.Graphs.GraphInterface;
+import com.company.Graphs.Implementations.AbstractGraph;
+import com.company.Graphs.IndexedGraphInterface;
 
 import java.util.*;
 
+/**
+ * Class for running Dijkstra algorithm from source points.
+ * Uses indexed d-ary heap with decrease-key, so each vertex is stored in a heap at most once.
+ * Edges of graphs derived from AbstractGraph are walked directly over their arrays of neighbours and weights.
+ * Arrays of a run are taken from SearchContext, so one object can be run from many threads at the same time
+ */
 public class DijkstraTraversingAlgorithm<T> implements GraphTraversingAlgorithm<T, Integer> {
+    private static final int DEFAULT_HEAP_ARITY = 4;
+    private static final int VISITED = 0;
+    private static final int REACHED = 1;
+    private final int heapArity;
 
-    private PriorityQueue<Tuple<T, Integer>> getPriorityQueue(GraphInterface<T, Integer> graph) {
-        PriorityQueue<Tuple<T, Integer>> order = new PriorityQueue<>();
+    public DijkstraTraversingAlgorithm() {
+        this(DEFAULT_HEAP_ARITY);
+    }
+
+    /**
+     * @param heapArity number of children of each node of a heap used by algorithm
+     */
+    public DijkstraTraversingAlgorithm(int heapArity) {
+        if (heapArity < 2) throw new IllegalArgumentException("Arity of a heap must be at least 2");
+        this.heapArity = heapArity;
+    }
+
+    private IndexedHeap getHeap(IndexedGraphInterface<T, Integer> graph, SearchContext context, long[] distances, int[] parents) {
+        IndexedHeap order = context.getHeap(heapArity);
         for (T point : graph.getPointsOfType(GraphInterface.PointType.SOURCE)) {
-            order.add(new Tuple<>(0, null, point));
+            int index = graph.getVertexIndex(point);
+            if (index == -1) continue;
+            context.mark(REACHED, index);
+            distances[index] = 0;
+            parents[index] = -1;
+            order.pushOrDecrease(index, 0);
         }
         return order;
     }
 
-    private Map<T, Integer> getDistances(GraphInterface<T, Integer> graph) {
-        Map<T, Integer> distances = new HashMap<>();
-        for (T point : graph.getAllVertexesIds()) {
-            distances.put(point, Integer.MAX_VALUE);
+    private void addVertexes(IndexedGraphInterface<T, Integer> graph, IndexedHeap order, long[] distances, int[] parents, SearchContext context, int point) {
+        if (graph instanceof AbstractGraph) {
+            AbstractGraph<T, Integer> weighted = (AbstractGraph<T, Integer>) graph;
+            addVertexes(weighted.getNeighboursByIndex(point), weighted.getWeightsByIndex(point), weighted.getDegreeByIndex(point), order, distances, parents, context, point);
+            return;
         }
-        for (T point : graph.getPointsOfType(GraphInterface.PointType.SOURCE)) {
-            distances.put(point, 0);
+        int degree = graph.getDegreeByIndex(point);
+        for (int position = 0; position < degree; ++position) {
+            relax(graph.getNeighbourByIndex(point, position), graph.getEdgeWeightByIndex(point, position), order, distances, parents, context, point);
         }
-        return distances;
     }
 
-    private void addVertexes(GraphInterface<T, Integer> graph, PriorityQueue<Tuple<T, Integer>> order, Map<T, Integer> distances, T point) throws NoSuchVertexException {
-        for (T to : graph.getAllDirectlyConnectedVertexes(point)) {
-            if (distances.get(point) + graph.getEdgeValue(point, to) <= distances.get(to)) {
-                distances.put(to, distances.get(point) + graph.getEdgeValue(point, to));
-                order.add(new Tuple<>(distances.get(to), point, to));
-            }
+    private void addVertexes(int[] neighbours, int[] weights, int degree, IndexedHeap order, long[] distances, int[] parents, SearchContext context, int point) {
+        for (int position = 0; position < degree; ++position) {
+            relax(neighbours[position], weights[position], order, distances, parents, context, point);
         }
     }
 
-    private void makeNextDijkstraIteration(GraphInterface<T, Integer> graph, PriorityQueue<Tuple<T, Integer>> order, Map<T, Integer> distances, Set<T> visited, Map<T, T> result) throws NoSuchVertexException {
-        Tuple<T, Integer> tuple = order.poll();
-        if (visited.contains(tuple.getTo())) return;
-        result.put(tuple.getTo(), tuple.getFrom());
-        addVertexes(graph, order, distances, tuple.getTo());
-        visited.add(tuple.getTo());
+    private void relax(int to, int weight, IndexedHeap order, long[] distances, int[] parents, SearchContext context, int point) {
+        if (context.isMarked(VISITED, to)) return;
+        long distance = distances[point] + weight;
+        if (context.mark(REACHED, to) || distance < distances[to]) {
+            distances[to] = distance;
+            parents[to] = point;
+            order.pushOrDecrease(to, distance);
+        }
     }
 
-    private Map<T, T> dijkstra(GraphInterface<T, Integer> graph) throws NoSuchVertexException {
-        PriorityQueue<Tuple<T, Integer>> order = getPriorityQueue(graph);
-        Map<T, Integer> distances = getDistances(graph);
-        Set<T> visited = new LinkedHashSet<>();
-        Map<T, T> result = new LinkedHashMap<>();
-        while (!order.isEmpty()) {
-            makeNextDijkstraIteration(graph, order, distances, visited, result);
+    private Map<T, T> dijkstra(IndexedGraphInterface<T, Integer> graph) {
+        try (SearchContext context = SearchContext.acquire(graph.getVertexIndexBound())) {
+            long[] distances = context.getLongs(0);
+            int[] parents = context.getInts(0);
+            IndexedHeap order = getHeap(graph, context, distances, parents);
+            Map<T, T> result = new LinkedHashMap<>();
+            AlgorithmBudget budget = AlgorithmBudget.current();
+            while (!order.isEmpty()) {
+                int point = order.poll();
+                budget.visit();
+                context.mark(VISITED, point);
+                result.put(graph.getVertexByIndex(point), parents[point] == -1 ? null : graph.getVertexByIndex(parents[point]));
+                addVertexes(graph, order, distances, parents, context, point);
+            }
+            return result;
         }
-        return result;
     }
 
     @Override
     public Map<T, T> run(GraphInterface<T, Integer> graph) {
-        try {
-            return dijkstra(graph);
-        } catch (NoSuchVertexException e) {
-            e.printStackTrace();
-            return null;
-        }
+        return dijkstra(IndexedGraphInterface.of(graph));
     }
 }
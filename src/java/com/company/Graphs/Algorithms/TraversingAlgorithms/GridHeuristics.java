@@ -0,0 +1,32 @@
+package com.company.Graphs.Algorithms.TraversingAlgorithms;
+
+import com.company.Graphs.GridPoint;
+
+/**
+ * Heuristics for A* algorithm on grids where each step costs at least 1
+ */
+public final class GridHeuristics {
+    /**
+     * Number of steps on a grid where moving is allowed only in 4 directions
+     */
+    public static final AStarHeuristic<GridPoint> MANHATTAN = (vertex, finish) ->
+            Math.abs(vertex.getRow() - finish.getRow()) + Math.abs(vertex.getCol() - finish.getCol());
+
+    /**
+     * Length of a path on a grid where moving is allowed in 8 directions and diagonal step costs sqrt(2), rounded down
+     */
+    public static final AStarHeuristic<GridPoint> OCTILE = (vertex, finish) -> {
+        int rows = Math.abs(vertex.getRow() - finish.getRow());
+        int cols = Math.abs(vertex.getCol() - finish.getCol());
+        return (long) Math.floor(Math.max(rows, cols) + (Math.sqrt(2) - 1) * Math.min(rows, cols));
+    };
+
+    /**
+     * Straight line distance rounded down
+     */
+    public static final AStarHeuristic<GridPoint> EUCLIDEAN = (vertex, finish) ->
+            (long) Math.floor(Math.hypot(vertex.getRow() - finish.getRow(), vertex.getCol() - finish.getCol()));
+
+    private GridHeuristics() {
+    }
+}
@@ -0,0 +1,333 @@
+package com.company.Graphs.Algorithms.TraversingAlgorithms;
+
+import com.company.Graphs.Algorithms.AlgorithmBudget;
+import com.company.Graphs.Algorithms.IndexedHeap;
+import com.company.Graphs.Algorithms.SearchContext;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.GraphInterface.PointType;
+import com.company.Graphs.GridPoint;
+import com.company.Graphs.Implementations.ImplicitGridGraph;
+
+import java.util.*;
+
+/**
+ * Class for running Jump Point Search from source points to the closest finish point on a grid with uniform cost.
+ * Grid consists of all present cells that are not blocks, weights and removed edges are not considered.
+ * Diagonal moves cost sqrt(2) and are allowed only if both cells next to the diagonal are free.
+ * Only jump points are expanded, but returned map contains every cell on segments between them,
+ * so path between a finish and a source can be restored cell by cell.
+ * Arrays of a run are taken from SearchContext, so one object can be run from many threads at the same time
+ */
+public class JumpPointSearchTraversingAlgorithm implements GraphTraversingAlgorithm<GridPoint, Integer> {
+    private static final int HEAP_ARITY = 4;
+    private static final long STRAIGHT_COST = 1000;
+    private static final long DIAGONAL_COST = 1414;
+    private static final int CLOSED = 0;
+    private static final int REACHED = 1;
+    private final boolean diagonalMovesAllowed;
+
+    /**
+     * Creates algorithm for grids where moving is allowed only in 4 directions
+     */
+    public JumpPointSearchTraversingAlgorithm() {
+        this(false);
+    }
+
+    /**
+     * @param diagonalMovesAllowed true to allow moving in 8 directions, false to allow only 4 directions
+     */
+    public JumpPointSearchTraversingAlgorithm(boolean diagonalMovesAllowed) {
+        this.diagonalMovesAllowed = diagonalMovesAllowed;
+    }
+
+    private static long getKey(long distance, long estimate) {
+        return (distance + estimate) << 31 | (Integer.MAX_VALUE - Math.min(distance, Integer.MAX_VALUE));
+    }
+
+    private long getCost(int rows, int cols) {
+        rows = Math.abs(rows);
+        cols = Math.abs(cols);
+        if (!diagonalMovesAllowed) return STRAIGHT_COST * (rows + cols);
+        return DIAGONAL_COST * Math.min(rows, cols) + STRAIGHT_COST * (Math.max(rows, cols) - Math.min(rows, cols));
+    }
+
+    /**
+     * Runs Jump Point Search
+     *
+     * @param graph grid on which to run algorithm
+     * @return map, where value represents point and key it parent
+     */
+    @Override
+    public Map<GridPoint, GridPoint> run(GraphInterface<GridPoint, Integer> graph) {
+        Grid grid = new Grid(graph);
+        try (SearchContext context = SearchContext.acquire(grid.rows * grid.cols)) {
+            return new Search(grid, graph, context).run();
+        }
+    }
+
+    /**
+     * Free cells of a grid addressed by row and column
+     */
+    private static class Grid {
+        private final ImplicitGridGraph implicitGrid;
+        private final BitSet free;
+        private final int minRow;
+        private final int minCol;
+        private final int rows;
+        private final int cols;
+
+        private Grid(GraphInterface<GridPoint, Integer> graph) {
+            if (graph instanceof ImplicitGridGraph) {
+                implicitGrid = (ImplicitGridGraph) graph;
+                free = null;
+                minRow = 0;
+                minCol = 0;
+                rows = implicitGrid.getRows();
+                cols = implicitGrid.getCols();
+                return;
+            }
+            implicitGrid = null;
+            List<GridPoint> points = graph.getAllVertexesIds();
+            int minRow = Integer.MAX_VALUE, minCol = Integer.MAX_VALUE, maxRow = Integer.MIN_VALUE, maxCol = Integer.MIN_VALUE;
+            for (GridPoint point : points) {
+                minRow = Math.min(minRow, point.getRow());
+                minCol = Math.min(minCol, point.getCol());
+                maxRow = Math.max(maxRow, point.getRow());
+                maxCol = Math.max(maxCol, point.getCol());
+            }
+            this.minRow = points.isEmpty() ? 0 : minRow;
+            this.minCol = points.isEmpty() ? 0 : minCol;
+            rows = points.isEmpty() ? 0 : maxRow - minRow + 1;
+            cols = points.isEmpty() ? 0 : maxCol - minCol + 1;
+            free = new BitSet(rows * cols);
+            Set<GridPoint> blocks = graph.getPointsOfType(PointType.BLOCKS);
+            for (GridPoint point : points) {
+                if (!blocks.contains(point)) free.set(getIndex(point.getRow(), point.getCol()));
+            }
+        }
+
+        private boolean isFree(int row, int col) {
+            if (implicitGrid != null) return implicitGrid.isOpenCell(row, col);
+            if (row < minRow || row >= minRow + rows || col < minCol || col >= minCol + cols) return false;
+            return free.get(getIndex(row, col));
+        }
+
+        private boolean contains(GridPoint point) {
+            return isFree(point.getRow(), point.getCol());
+        }
+
+        private int getIndex(int row, int col) {
+            return (row - minRow) * cols + (col - minCol);
+        }
+
+        private int getRow(int index) {
+            return index / cols + minRow;
+        }
+
+        private int getCol(int index) {
+            return index % cols + minCol;
+        }
+    }
+
+    /**
+     * State of a single run of an algorithm
+     */
+    private class Search {
+        private final Grid grid;
+        private final List<GridPoint> finishes = new ArrayList<>();
+        private final Set<GridPoint> sources;
+        private final BitSet finishIndexes = new BitSet();
+        private final SearchContext context;
+        private final long[] distances;
+        private final int[] parents;
+        private final int[] expanded;
+        private final IndexedHeap open;
+        private int expandedNumber = 0;
+
+        private Search(Grid grid, GraphInterface<GridPoint, Integer> graph, SearchContext context) {
+            this.grid = grid;
+            this.context = context;
+            distances = context.getLongs(0);
+            parents = context.getInts(0);
+            expanded = context.getInts(1);
+            this.sources = graph.getPointsOfType(PointType.SOURCE);
+            for (GridPoint finish : graph.getPointsOfType(PointType.FINISH)) {
+                if (!grid.contains(finish)) continue;
+                finishes.add(finish);
+                finishIndexes.set(grid.getIndex(finish.getRow(), finish.getCol()));
+            }
+            open = context.getHeap(HEAP_ARITY);
+        }
+
+        private long estimate(int row, int col) {
+            long result = finishes.isEmpty() ? 0 : Long.MAX_VALUE;
+            for (GridPoint finish : finishes) {
+                result = Math.min(result, getCost(finish.getRow() - row, finish.getCol() - col));
+            }
+            return result;
+        }
+
+        private boolean isFinish(int row, int col) {
+            return finishIndexes.get(grid.getIndex(row, col));
+        }
+
+        private void push(int index, int parent, long distance) {
+            if (context.isMarked(CLOSED, index)) return;
+            if (!context.mark(REACHED, index) && distance >= distances[index]) return;
+            distances[index] = distance;
+            parents[index] = parent;
+            open.pushOrDecrease(index, getKey(distance, estimate(grid.getRow(index), grid.getCol(index))));
+        }
+
+        private Map<GridPoint, GridPoint> run() {
+            for (GridPoint source : sources) {
+                if (grid.contains(source)) push(grid.getIndex(source.getRow(), source.getCol()), -1, 0);
+            }
+            int found = -1;
+            AlgorithmBudget budget = AlgorithmBudget.current();
+            while (!open.isEmpty()) {
+                int point = open.poll();
+                context.mark(CLOSED, point);
+                budget.visit();
+                expanded[expandedNumber++] = point;
+                if (finishIndexes.get(point)) {
+                    found = point;
+                    break;
+                }
+                expand(point);
+            }
+            return collectResult(found);
+        }
+
+        private void expand(int point) {
+            int row = grid.getRow(point);
+            int col = grid.getCol(point);
+            int parent = parents[point];
+            int[] directions = parent == -1 ? getAllDirections(row, col) : getPrunedDirections(row, col, grid.getRow(parent), grid.getCol(parent));
+            for (int i = 0; i < directions.length; i += 2) {
+                int rowShift = directions[i];
+                int colShift = directions[i + 1];
+                if (rowShift != 0 && colShift != 0 && !canMoveDiagonally(row, col, rowShift, colShift)) continue;
+                int jumpPoint = rowShift != 0 && colShift != 0
+                        ? jumpDiagonally(row + rowShift, col + colShift, rowShift, colShift)
+                        : jumpStraight(row + rowShift, col + colShift, rowShift, colShift);
+                if (jumpPoint == -1) continue;
+                long distance = distances[point] + getCost(grid.getRow(jumpPoint) - row, grid.getCol(jumpPoint) - col);
+                push(jumpPoint, point, distance);
+            }
+        }
+
+        private int[] getAllDirections(int row, int col) {
+            int[] result = new int[16];
+            int size = 0;
+            for (int rowShift = -1; rowShift <= 1; ++rowShift) {
+                for (int colShift = -1; colShift <= 1; ++colShift) {
+                    if (rowShift == 0 && colShift == 0) continue;
+                    if (rowShift != 0 && colShift != 0 && !canMoveDiagonally(row, col, rowShift, colShift)) continue;
+                    if (!grid.isFree(row + rowShift, col + colShift)) continue;
+                    result[size++] = rowShift;
+                    result[size++] = colShift;
+                }
+            }
+            return size == result.length ? result : Arrays.copyOf(result, size);
+        }
+
+        private boolean canMoveDiagonally(int row, int col, int rowShift, int colShift) {
+            return diagonalMovesAllowed && grid.isFree(row + rowShift, col) && grid.isFree(row, col + colShift);
+        }
+
+        private int[] getPrunedDirections(int row, int col, int parentRow, int parentCol) {
+            int rowShift = Integer.signum(row - parentRow);
+            int colShift = Integer.signum(col - parentCol);
+            if (rowShift != 0 && colShift != 0) {
+                return new int[]{rowShift, 0, 0, colShift, rowShift, colShift};
+            }
+            if (!diagonalMovesAllowed) {
+                return rowShift != 0 ? new int[]{rowShift, 0, 0, 1, 0, -1} : new int[]{0, colShift, 1, 0, -1, 0};
+            }
+            if (rowShift != 0) {
+                return new int[]{rowShift, 0, rowShift, 1, rowShift, -1, 0, 1, 0, -1};
+            }
+            return new int[]{0, colShift, 1, colShift, -1, colShift, 1, 0, -1, 0};
+        }
+
+        private boolean hasForcedNeighbour(int row, int col, int rowShift, int colShift) {
+            if (colShift != 0) {
+                return (grid.isFree(row - 1, col) && !grid.isFree(row - 1, col - colShift))
+                        || (grid.isFree(row + 1, col) && !grid.isFree(row + 1, col - colShift));
+            }
+            return (grid.isFree(row, col - 1) && !grid.isFree(row - rowShift, col - 1))
+                    || (grid.isFree(row, col + 1) && !grid.isFree(row - rowShift, col + 1));
+        }
+
+        /**
+         * @return index of a jump point in a straight direction or -1 if there is no such point
+         */
+        private int jumpStraight(int row, int col, int rowShift, int colShift) {
+            while (grid.isFree(row, col)) {
+                if (isFinish(row, col) || hasForcedNeighbour(row, col, rowShift, colShift)) return grid.getIndex(row, col);
+                if (!diagonalMovesAllowed && rowShift != 0
+                        && (jumpStraight(row, col + 1, 0, 1) != -1 || jumpStraight(row, col - 1, 0, -1) != -1)) {
+                    return grid.getIndex(row, col);
+                }
+                row += rowShift;
+                col += colShift;
+            }
+            return -1;
+        }
+
+        /**
+         * @return index of a jump point in a diagonal direction or -1 if there is no such point
+         */
+        private int jumpDiagonally(int row, int col, int rowShift, int colShift) {
+            while (grid.isFree(row, col)) {
+                if (isFinish(row, col)) return grid.getIndex(row, col);
+                if (jumpStraight(row, col + colShift, 0, colShift) != -1 || jumpStraight(row + rowShift, col, rowShift, 0) != -1) {
+                    return grid.getIndex(row, col);
+                }
+                if (!canMoveDiagonally(row, col, rowShift, colShift)) return -1;
+                row += rowShift;
+                col += colShift;
+            }
+            return -1;
+        }
+
+        private GridPoint toPoint(int index) {
+            return new GridPoint(grid.getRow(index), grid.getCol(index));
+        }
+
+        /**
+         * Adds all cells between jump point and its parent to a result
+         */
+        private void addSegment(Map<GridPoint, GridPoint> result, int point, boolean override) {
+            int parent = parents[point];
+            if (parent == -1) {
+                if (override || !result.containsKey(toPoint(point))) result.put(toPoint(point), null);
+                return;
+            }
+            int row = grid.getRow(parent);
+            int col = grid.getCol(parent);
+            int rowShift = Integer.signum(grid.getRow(point) - row);
+            int colShift = Integer.signum(grid.getCol(point) - col);
+            GridPoint previous = toPoint(parent);
+            while (row != grid.getRow(point) || col != grid.getCol(point)) {
+                row += rowShift;
+                col += colShift;
+                GridPoint current = new GridPoint(row, col);
+                if (override || !result.containsKey(current)) result.put(current, previous);
+                previous = current;
+            }
+        }
+
+        private Map<GridPoint, GridPoint> collectResult(int found) {
+            Map<GridPoint, GridPoint> result = new LinkedHashMap<>();
+            for (int i = 0; i < expandedNumber; ++i) {
+                addSegment(result, expanded[i], false);
+            }
+            for (int point = found; point != -1; point = parents[point]) {
+                addSegment(result, point, true);
+            }
+            return result;
+        }
+    }
+}
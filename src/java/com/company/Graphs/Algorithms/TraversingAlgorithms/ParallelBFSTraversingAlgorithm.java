@@ -0,0 +1,256 @@
+package com.company.Graphs.Algorithms.TraversingAlgorithms;
+
+import com.company.Graphs.Algorithms.AlgorithmBudget;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.GraphInterface.PointType;
+import com.company.Graphs.ReverseIndexedGraphInterface;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class for running level synchronous BFS algorithm from source points to finish points omitting blocks points.
+ * Each level is expanded in parallel in a fork join pool either top-down (vertexes of a frontier claim their
+ * not visited neighbours) or bottom-up (not visited vertexes look for a parent in a frontier).
+ * Direction is chosen each level by Beamer's heuristic: bottom-up is used while edges of a frontier outnumber
+ * 1/ALPHA of edges of not visited vertexes and until frontier shrinks below 1/BETA of vertexes.
+ * Frontier is kept as a list of vertexes, so top-down levels take time of edges of a frontier only,
+ * a bitmap of a frontier is filled only for bottom-up levels and its touched words are cleared after a level.
+ * Result contains the same vertexes as result of BFSTraversingAlgorithm, each with a parent from the previous level,
+ * ordered by levels
+ */
+public class ParallelBFSTraversingAlgorithm<T, E> implements GraphTraversingAlgorithm<T, E> {
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+    private static final int FRONTIER_GRAIN = 256;
+    private static final int WORDS_GRAIN = 16;
+    private final ForkJoinPool pool;
+
+    public ParallelBFSTraversingAlgorithm() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pool pool in which levels are expanded
+     */
+    public ParallelBFSTraversingAlgorithm(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    private interface RangeAction {
+        void run(int from, int to);
+    }
+
+    private static class RangeTask extends RecursiveAction {
+        private final RangeAction action;
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        private RangeTask(RangeAction action, int from, int to, int grain) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                action.run(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(action, from, middle, grain), new RangeTask(action, middle, to, grain));
+        }
+    }
+
+    /**
+     * Runs an action over a range in a pool, ranges not bigger than grain run in a calling thread
+     */
+    private void invoke(RangeAction action, int size, int grain) {
+        if (size <= grain) action.run(0, size);
+        else pool.invoke(new RangeTask(action, 0, size, grain));
+    }
+
+    private static boolean isSet(AtomicLongArray bits, int index) {
+        return (bits.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    /**
+     * Atomically sets a bit
+     *
+     * @return true if bit was not set before
+     */
+    private static boolean claim(AtomicLongArray bits, int index) {
+        int word = index >>> 6;
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) return false;
+        } while (!bits.compareAndSet(word, current, current | mask));
+        return true;
+    }
+
+    private class Search {
+        private final ReverseIndexedGraphInterface<T, E> graph;
+        private final int bound;
+        private final int words;
+        private final AtomicLongArray visited;
+        private final int[] parents;
+        private final int[] levels;
+        private final long[] frontierBits;
+        private final AtomicInteger nextSize = new AtomicInteger();
+        private final LongAdder nextDegrees = new LongAdder();
+        private final LongAdder discoveredDegrees = new LongAdder();
+        private int[] frontier;
+        private int[] next;
+        private int frontierSize = 0;
+        private long frontierDegrees = 0;
+        private long unexploredDegrees = 0;
+        private int level = 0;
+
+        private Search(ReverseIndexedGraphInterface<T, E> graph) {
+            this.graph = graph;
+            bound = graph.getVertexIndexBound();
+            words = (bound + 63) >>> 6;
+            visited = new AtomicLongArray(words);
+            parents = new int[bound];
+            levels = new int[bound];
+            frontierBits = new long[words];
+            frontier = new int[bound];
+            next = new int[bound];
+        }
+
+        private void setUp() {
+            for (int index = bound; index < words << 6; ++index) {
+                claim(visited, index);
+            }
+            for (int index = 0; index < bound; ++index) {
+                if (graph.getVertexByIndex(index) == null || graph.getPointTypeByIndex(index) == PointType.BLOCKS)
+                    claim(visited, index);
+                else unexploredDegrees += graph.getDegreeByIndex(index);
+            }
+            for (T point : graph.getPointsOfType(PointType.SOURCE)) {
+                int index = graph.getVertexIndex(point);
+                if (index == -1 || !claim(visited, index)) continue;
+                int degree = graph.getDegreeByIndex(index);
+                unexploredDegrees -= degree;
+                frontier[frontierSize++] = index;
+                frontierDegrees += degree;
+            }
+        }
+
+        private void discover(int vertex, int parent) {
+            parents[vertex] = parent;
+            levels[vertex] = level;
+            int degree = graph.getDegreeByIndex(vertex);
+            discoveredDegrees.add(degree);
+            if (graph.getPointTypeByIndex(vertex) == PointType.FINISH) return;
+            next[nextSize.getAndIncrement()] = vertex;
+            nextDegrees.add(degree);
+        }
+
+        private void expandTopDown() {
+            int[] list = frontier;
+            invoke((from, to) -> {
+                for (int i = from; i < to; ++i) {
+                    int vertex = list[i];
+                    int degree = graph.getDegreeByIndex(vertex);
+                    for (int position = 0; position < degree; ++position) {
+                        int neighbour = graph.getNeighbourByIndex(vertex, position);
+                        if (isSet(visited, neighbour) || !claim(visited, neighbour)) continue;
+                        discover(neighbour, vertex);
+                    }
+                }
+            }, frontierSize, FRONTIER_GRAIN);
+        }
+
+        private void expandBottomUp() {
+            long[] current = frontierBits;
+            for (int i = 0; i < frontierSize; ++i) {
+                current[frontier[i] >>> 6] |= 1L << frontier[i];
+            }
+            pool.invoke(new RangeTask((from, to) -> {
+                for (int word = from; word < to; ++word) {
+                    for (long bits = ~visited.get(word); bits != 0; bits &= bits - 1) {
+                        int vertex = (word << 6) + Long.numberOfTrailingZeros(bits);
+                        int degree = graph.getInDegreeByIndex(vertex);
+                        for (int position = 0; position < degree; ++position) {
+                            int parent = graph.getPredecessorByIndex(vertex, position);
+                            if ((current[parent >>> 6] & (1L << parent)) == 0) continue;
+                            claim(visited, vertex);
+                            discover(vertex, parent);
+                            break;
+                        }
+                    }
+                }
+            }, 0, words, WORDS_GRAIN));
+            for (int i = 0; i < frontierSize; ++i) {
+                current[frontier[i] >>> 6] = 0;
+            }
+        }
+
+        private void run() {
+            setUp();
+            boolean bottomUp = false;
+            long previousSize = 0;
+            AlgorithmBudget budget = AlgorithmBudget.current();
+            while (frontierSize > 0) {
+                budget.visit(frontierSize);
+                ++level;
+                if (!bottomUp) bottomUp = frontierDegrees > unexploredDegrees / ALPHA;
+                else bottomUp = frontierSize >= bound / BETA || frontierSize > previousSize;
+                if (bottomUp) expandBottomUp();
+                else expandTopDown();
+
+                previousSize = frontierSize;
+                frontierSize = nextSize.getAndSet(0);
+                frontierDegrees = nextDegrees.sumThenReset();
+                unexploredDegrees -= discoveredDegrees.sumThenReset();
+                int[] swapped = frontier;
+                frontier = next;
+                next = swapped;
+            }
+        }
+
+        private Map<T, T> collectResult() {
+            int[] counts = new int[level + 2];
+            for (int index = 0; index < bound; ++index) {
+                ++counts[levels[index] + 1];
+            }
+            for (int i = 1; i < counts.length; ++i) {
+                counts[i] += counts[i - 1];
+            }
+            int[] order = new int[bound];
+            for (int index = 0; index < bound; ++index) {
+                order[counts[levels[index]]++] = index;
+            }
+            Map<T, T> result = new LinkedHashMap<>();
+            for (int i = counts[0]; i < bound; ++i) {
+                int vertex = order[i];
+                result.put(graph.getVertexByIndex(vertex), graph.getVertexByIndex(parents[vertex]));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Runs parallel BFS algorithm, graph must not be changed while algorithm runs
+     *
+     * @param graph on which to run algorithm
+     * @return map, where value represents point and key it parent
+     */
+    @Override
+    public Map<T, T> run(GraphInterface<T, E> graph) {
+        Search search = new Search(ReverseIndexedGraphInterface.of(graph));
+        search.run();
+        return search.collectResult();
+    }
+}
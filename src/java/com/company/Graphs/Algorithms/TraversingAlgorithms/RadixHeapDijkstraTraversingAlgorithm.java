@@ -0,0 +1,78 @@
+package com.company.Graphs.Algorithms.TraversingAlgorithms;
+
+import com.company.Graphs.Algorithms.AlgorithmBudget;
+import com.company.Graphs.Algorithms.RadixHeap;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.IndexedGraphInterface;
+
+import java.util.*;
+
+/**
+ * Class for running Dijkstra algorithm from source points on graphs with non-negative integer weights.
+ * Uses radix heap instead of comparison based heap, outdated heap entries are skipped when polled
+ */
+public class RadixHeapDijkstraTraversingAlgorithm<T> implements GraphTraversingAlgorithm<T, Integer> {
+
+    public RadixHeapDijkstraTraversingAlgorithm() {
+    }
+
+    private RadixHeap getHeap(IndexedGraphInterface<T, Integer> graph, long[] distances) {
+        RadixHeap order = new RadixHeap();
+        for (T point : graph.getPointsOfType(GraphInterface.PointType.SOURCE)) {
+            int index = graph.getVertexIndex(point);
+            if (index == -1) continue;
+            distances[index] = 0;
+            order.push(index, 0);
+        }
+        return order;
+    }
+
+    private void addVertexes(IndexedGraphInterface<T, Integer> graph, RadixHeap order, long[] distances, int[] parents, int point) {
+        int degree = graph.getDegreeByIndex(point);
+        for (int position = 0; position < degree; ++position) {
+            int to = graph.getNeighbourByIndex(point, position);
+            int weight = graph.getEdgeWeightByIndex(point, position);
+            if (weight < 0)
+                throw new IllegalArgumentException("Edge between " + graph.getVertexByIndex(point) + " and " + graph.getVertexByIndex(to) + " has negative weight");
+            long distance = distances[point] + weight;
+            if (distance < distances[to]) {
+                distances[to] = distance;
+                parents[to] = point;
+                order.push(to, distance);
+            }
+        }
+    }
+
+    private Map<T, T> dijkstra(IndexedGraphInterface<T, Integer> graph) {
+        int bound = graph.getVertexIndexBound();
+        long[] distances = new long[bound];
+        int[] parents = new int[bound];
+        Arrays.fill(distances, Long.MAX_VALUE);
+        Arrays.fill(parents, -1);
+        RadixHeap order = getHeap(graph, distances);
+        BitSet visited = new BitSet(bound);
+        Map<T, T> result = new LinkedHashMap<>();
+        AlgorithmBudget budget = AlgorithmBudget.current();
+        while (!order.isEmpty()) {
+            int point = order.poll();
+            if (visited.get(point) || order.getLastKey() != distances[point]) continue;
+            visited.set(point);
+            budget.visit();
+            result.put(graph.getVertexByIndex(point), parents[point] == -1 ? null : graph.getVertexByIndex(parents[point]));
+            addVertexes(graph, order, distances, parents, point);
+        }
+        return result;
+    }
+
+    /**
+     * Runs Dijkstra algorithm
+     *
+     * @param graph on which to run algorithm, all edges must have non-negative weights
+     * @return map, where value represents point and key it parent
+     * @throws IllegalArgumentException if graph has an edge with negative weight
+     */
+    @Override
+    public Map<T, T> run(GraphInterface<T, Integer> graph) {
+        return dijkstra(IndexedGraphInterface.of(graph));
+    }
+}
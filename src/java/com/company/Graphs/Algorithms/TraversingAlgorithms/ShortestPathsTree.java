@@ -0,0 +1,46 @@
+package com.company.Graphs.Algorithms.TraversingAlgorithms;
+
+import com.company.Graphs.IndexedGraphInterface;
+
+import java.util.Map;
+
+/**
+ * Result of a single source shortest paths algorithm: parents of reached points and their distances from sources
+ *
+ * @param <T> Type of vertexId
+ */
+public class ShortestPathsTree<T> {
+    private final IndexedGraphInterface<T, ?> graph;
+    private final Map<T, T> parents;
+    private final long[] distances;
+
+    public ShortestPathsTree(IndexedGraphInterface<T, ?> graph, Map<T, T> parents, long[] distances) {
+        this.graph = graph;
+        this.parents = parents;
+        this.distances = distances;
+    }
+
+    /**
+     * @return map, where value represents point and key it parent (sources have null parent)
+     */
+    public Map<T, T> getParents() {
+        return parents;
+    }
+
+    /**
+     * @return distances from sources by indexes of vertexes in the indexed graph on which algorithm ran,
+     * 9223372036854775807 (2^63 - 1) for not reached vertexes
+     */
+    public long[] getDistances() {
+        return distances;
+    }
+
+    /**
+     * @param point point to check
+     * @return distance from sources to a point or 9223372036854775807 (2^63 - 1) if it wasn't reached
+     */
+    public long getDistance(T point) {
+        int index = graph.getVertexIndex(point);
+        return index == -1 ? Long.MAX_VALUE : distances[index];
+    }
+}
@@ -0,0 +1,10 @@
+package com.company.Graphs.Errors;
+
+public class AlgorithmAbortedException extends RuntimeException {
+    public AlgorithmAbortedException(){
+        super();
+    }
+    public AlgorithmAbortedException(String string) {
+        super(string);
+    }
+}
@@ -1,14 +1,20 @@
 package com.company.Graphs;
 
+import com.company.Graphs.Algorithms.AlgorithmBudget;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.VertexPairDistance;
 import com.company.Graphs.Algorithms.GraphAlgorithmInterface;
 import com.company.Graphs.Errors.EdgeAlreadyExistsException;
 import com.company.Graphs.Errors.NoSuchEdgeException;
 import com.company.Graphs.Errors.NoSuchVertexException;
 import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import javafx.util.Pair;
 
 import java.awt.*;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 /**
  * @param <T> Type of vertexId
@@ -116,6 +122,28 @@ public interface GraphInterface<T, E> {
      */
     <P> P runAlgorithm(GraphAlgorithmInterface<P, T, E> algorithm);
 
+    /**
+     * Runs a specific algorithm in an executor, cancelling of a returned future stops the algorithm
+     *
+     * @param algorithm algorithm you want to run
+     * @param executor  executor in which algorithm runs
+     * @param <P>       type of result
+     * @return future result of an execution of the algorithm
+     */
+    <P> CompletableFuture<P> runAlgorithmAsync(GraphAlgorithmInterface<P, T, E> algorithm, Executor executor);
+
+    /**
+     * Runs a specific algorithm in an executor with limits of time and visited vertexes,
+     * future of a run that exceeds a limit completes with AlgorithmAbortedException
+     *
+     * @param algorithm algorithm you want to run
+     * @param executor  executor in which algorithm runs
+     * @param budget    limits of a run, used by one run only
+     * @param <P>       type of result
+     * @return future result of an execution of the algorithm
+     */
+    <P> CompletableFuture<P> runAlgorithmAsync(GraphAlgorithmInterface<P, T, E> algorithm, Executor executor, AlgorithmBudget budget);
+
     /**
      * Checks if graph is connected
      *
@@ -134,6 +162,16 @@ public interface GraphInterface<T, E> {
      */
     Integer calculateShortestDistanceBetweenVertexes(T firstVertex, T secondVertex) throws NoSuchVertexException;
 
+    /**
+     * Counts the shortest distances between many pairs of vertexes (considers each vertex of the same length).
+     * Graph is searched once for each distinct first vertex, searches run in parallel
+     *
+     * @param pairs pairs of a first and a second vertex
+     * @return stream of distances in order in which searches finish, distance is 2147483647 (2^31 - 1) if there is no path
+     * @throws NoSuchVertexException if a vertex of a pair doesn't exist
+     */
+    Stream<VertexPairDistance<T>> calculateShortestDistancesBetweenVertexes(List<Pair<T, T>> pairs) throws NoSuchVertexException;
+
     /**
      * @return number of vertexes in a graph
      */
@@ -1,31 +1,104 @@
 package com.company.Graphs.Implementations;
 
+import com.company.Graphs.Algorithms.AlgorithmBudget;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.BidirectionalBFSGraphAlgorithm;
 import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.ConnectionCheckGraphAlgorithm;
-import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.ShortestDistanceFromVertexCalculationGraphAlgorithm;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.ShortestDistancesBatchGraphAlgorithm;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.VertexPairDistance;
 import com.company.Graphs.Algorithms.GraphAlgorithmInterface;
 import com.company.Graphs.Errors.EdgeAlreadyExistsException;
 import com.company.Graphs.Errors.NoSuchVertexException;
 import com.company.Graphs.Errors.VertexAlreadyExistsException;
-import com.company.Graphs.GraphInterface;
+import com.company.Graphs.IndexedGraphInterface;
+import com.company.Graphs.PointTypeStore;
+import com.company.Graphs.VertexIdDictionary;
 import javafx.util.Pair;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 
 /**
+ * Each vertex stores, besides the list of adjacent vertexes, indexes of adjacent vertexes, weights and values of edges
+ * in arrays aligned with positions of the list, so algorithms walk edges by indexes without lookups of vertex ids.
+ * Lists and arrays are changed only through addToList and removeFromList
+ *
  * @param <T> Type of vertexId
  * @param <E> Type of values in vertex
  */
-public abstract class AbstractGraph<T, E> implements GraphInterface<T, E> {
-    protected final Map<T, PointType> types = new HashMap<>();
-    private final Map<PointType, Set<T>> points = new HashMap<>();
+public abstract class AbstractGraph<T, E> implements IndexedGraphInterface<T, E> {
     protected Map<T, List<T>> connectionsMap = new HashMap<>();
     protected Map<T, E> vertexValuesMap = new HashMap<>();
-    protected Map<Pair<T, T>, E> edgesValues = new HashMap();
+    protected final VertexIdDictionary<T> dictionary = new VertexIdDictionary<>();
+    protected final List<List<T>> connectionsByIndex = new ArrayList<>();
+    private final List<Edges> edgesByIndex = new ArrayList<>();
+    protected final PointTypeStore<T> pointTypes = new PointTypeStore<>(this);
+    protected int edgesNumber = 0;
+    protected long totalWeight = 0;
 
     public AbstractGraph() {
-        for (PointType type : PointType.values()) {
-            points.put(type, new HashSet<>());
+    }
+
+    /**
+     * Indexes of adjacent vertexes, weights and values of edges at positions of a list of adjacent vertexes.
+     * Array of values is allocated only when an edge with not null value is added
+     */
+    static final class Edges {
+        private int[] neighbours = new int[4];
+        private int[] weights = new int[4];
+        private Object[] values = null;
+        private int size = 0;
+
+        void add(int neighbour, int weight, Object value) {
+            if (size == neighbours.length) {
+                neighbours = Arrays.copyOf(neighbours, 2 * size);
+                weights = Arrays.copyOf(weights, 2 * size);
+                if (values != null) values = Arrays.copyOf(values, 2 * size);
+            }
+            if (values == null && value != null) values = new Object[neighbours.length];
+            neighbours[size] = neighbour;
+            weights[size] = weight;
+            if (values != null) values[size] = value;
+            ++size;
+        }
+
+        /**
+         * Moves the last edge to a position as AdjacencyList does
+         */
+        void remove(int position) {
+            int last = --size;
+            neighbours[position] = neighbours[last];
+            weights[position] = weights[last];
+            if (values == null) return;
+            values[position] = values[last];
+            values[last] = null;
+        }
+
+        void clear() {
+            size = 0;
+            values = null;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int getNeighbour(int position) {
+            return neighbours[position];
+        }
+
+        void setNeighbour(int position, int neighbour) {
+            neighbours[position] = neighbour;
+        }
+
+        int getWeight(int position) {
+            return weights[position];
+        }
+
+        Object getValue(int position) {
+            return values == null ? null : values[position];
         }
     }
 
@@ -40,7 +113,11 @@ public abstract class AbstractGraph<T, E> implements GraphInterface<T, E> {
         if (vertexValuesMap.containsKey(vertexId))
             throw new VertexAlreadyExistsException("Vertex " + vertexId + " already exists");
         vertexValuesMap.put(vertexId, value);
-        connectionsMap.put(vertexId, new ArrayList<>());
+        List<T> connections = new AdjacencyList<>();
+        connectionsMap.put(vertexId, connections);
+        dictionary.add(vertexId);
+        connectionsByIndex.add(connections);
+        edgesByIndex.add(new Edges());
     }
 
     /**
@@ -56,18 +133,93 @@ public abstract class AbstractGraph<T, E> implements GraphInterface<T, E> {
 
     /**
      * Removes a vertex with a specific id and value.
-     * In addition, it deletes all edges to and from a vertex
+     * In addition, it deletes all edges to and from a vertex.
+     * Implementations remove edges through lists of neighbours of a vertex, update statistics of edges
+     * and then call removeVertexEntry
      *
      * @param vertexId id of a vertex to delete
      * @throws NoSuchVertexException if a vertex with a specified id doesn't exist
      */
-    public void removeVertex(T vertexId) throws NoSuchVertexException {
-        if (!connectionsMap.containsKey(vertexId))
-            throw new NoSuchVertexException("There is no such vertex " + vertexId);
+    public abstract void removeVertex(T vertexId) throws NoSuchVertexException;
+
+    /**
+     * Removes value, list of edges and index of a vertex, must be called after all edges that end in it are removed.
+     * The last vertex takes index of a removed one, so its index is updated in arrays of vertexes that hold it
+     *
+     * @param vertexId id of a vertex to delete
+     */
+    protected void removeVertexEntry(T vertexId) {
+        int index = dictionary.getIndex(vertexId);
+        int last = edgesByIndex.size() - 1;
+        T moved = dictionary.get(last);
         vertexValuesMap.remove(vertexId);
         connectionsMap.remove(vertexId);
-        for (List<T> list : connectionsMap.values()) {
-            list.remove(vertexId);
+        removeVertexIndex(vertexId);
+        edgesByIndex.set(index, edgesByIndex.get(last));
+        edgesByIndex.remove(last);
+        if (index == last) return;
+        for (T holder : getHolders(moved)) {
+            int holderIndex = dictionary.getIndex(holder);
+            edgesByIndex.get(holderIndex).setNeighbour(connectionsByIndex.get(holderIndex).indexOf(moved), index);
+        }
+    }
+
+    /**
+     * @param vertexId id of a vertex
+     * @return vertexes which lists of adjacent vertexes contain a specified vertex
+     */
+    protected abstract List<T> getHolders(T vertexId);
+
+    /**
+     * Adds a vertex to the end of a list of adjacent vertexes together with its index and weight and value of an edge
+     *
+     * @param from   vertex which list is changed
+     * @param to     vertex to add
+     * @param value  value of an edge
+     * @param weight weight of an edge
+     */
+    protected void addToList(T from, T to, E value, int weight) {
+        int index = dictionary.getIndex(from);
+        edgesByIndex.get(index).add(dictionary.getIndex(to), weight, value);
+        connectionsByIndex.get(index).add(to);
+    }
+
+    /**
+     * Removes a vertex from a list of adjacent vertexes, the last edge is moved to its position as in AdjacencyList
+     *
+     * @param from vertex which list is changed
+     * @param to   vertex to remove
+     * @return weight of a removed edge
+     */
+    protected int removeFromList(T from, T to) {
+        int index = dictionary.getIndex(from);
+        List<T> list = connectionsByIndex.get(index);
+        int position = list.indexOf(to);
+        Edges edges = edgesByIndex.get(index);
+        int weight = edges.getWeight(position);
+        edges.remove(position);
+        list.remove(position);
+        return weight;
+    }
+
+    /**
+     * Removes all vertexes from a list of adjacent vertexes
+     *
+     * @param from vertex which list is cleared
+     */
+    protected void clearList(T from) {
+        int index = dictionary.getIndex(from);
+        edgesByIndex.get(index).clear();
+        connectionsByIndex.get(index).clear();
+    }
+
+    private void removeVertexIndex(T vertexId) {
+        int index = dictionary.remove(vertexId);
+        List<T> last = connectionsByIndex.remove(connectionsByIndex.size() - 1);
+        pointTypes.set(index, PointType.FREE);
+        if (index != connectionsByIndex.size()) {
+            connectionsByIndex.set(index, last);
+            pointTypes.move(connectionsByIndex.size(), index);
         }
     }
 
@@ -94,12 +246,51 @@ public abstract class AbstractGraph<T, E> implements GraphInterface<T, E> {
         return algorithm.run(this);
     }
 
+    /**
+     * Runs a specific algorithm in an executor, cancelling of a returned future stops the algorithm.
+     * Algorithm runs on a snapshot taken at the call, so graph can be changed while it runs
+     *
+     * @param algorithm algorithm you want to run
+     * @param executor  executor in which algorithm runs
+     * @param <P>       type of result
+     * @return future result of an execution of the algorithm
+     */
+    @Override
+    public <P> CompletableFuture<P> runAlgorithmAsync(GraphAlgorithmInterface<P, T, E> algorithm, Executor executor) {
+        return runAlgorithmAsync(algorithm, executor, new AlgorithmBudget());
+    }
+
+    /**
+     * Runs a specific algorithm in an executor with limits of time and visited vertexes,
+     * future of a run that exceeds a limit completes with AlgorithmAbortedException
+     *
+     * @param algorithm algorithm you want to run
+     * @param executor  executor in which algorithm runs
+     * @param budget    limits of a run, used by one run only
+     * @param <P>       type of result
+     * @return future result of an execution of the algorithm
+     */
+    @Override
+    public <P> CompletableFuture<P> runAlgorithmAsync(GraphAlgorithmInterface<P, T, E> algorithm, Executor executor, AlgorithmBudget budget) {
+        return budget.runAsync(freeze(), algorithm, executor);
+    }
+
+    /**
+     * Builds immutable snapshot of a graph in compressed sparse row format.
+     * Later changes of a graph are not reflected in a snapshot
+     *
+     * @return snapshot of a graph
+     */
+    public CsrGraph<T, E> freeze() {
+        return CsrGraph.of(this);
+    }
+
     /**
      * @return list of all ids of vertexes in a graph
      */
     @Override
     public List<T> getAllVertexesIds() {
-        return new ArrayList<>(vertexValuesMap.keySet());
+        return new ArrayList<>(dictionary.getVertexes());
     }
 
     /**
@@ -144,7 +335,26 @@ public abstract class AbstractGraph<T, E> implements GraphInterface<T, E> {
             throw new NoSuchVertexException("There is no such vertex " + firstVertex);
         if (!connectionsMap.containsKey(secondVertex))
             throw new NoSuchVertexException("There is no such vertex " + secondVertex);
-        return runAlgorithm(new ShortestDistanceFromVertexCalculationGraphAlgorithm<>(firstVertex)).get(secondVertex);
+        return runAlgorithm(new BidirectionalBFSGraphAlgorithm<>(firstVertex, secondVertex));
+    }
+
+    /**
+     * Counts the shortest distances between many pairs of vertexes (considers each vertex of the same length).
+     * Graph is searched once for each distinct first vertex, searches run in parallel
+     *
+     * @param pairs pairs of a first and a second vertex
+     * @return stream of distances in order in which searches finish, distance is 2147483647 (2^31 - 1) if there is no path
+     * @throws NoSuchVertexException if a vertex of a pair doesn't exist
+     */
+    @Override
+    public Stream<VertexPairDistance<T>> calculateShortestDistancesBetweenVertexes(List<Pair<T, T>> pairs) throws NoSuchVertexException {
+        for (Pair<T, T> pair : pairs) {
+            if (!connectionsMap.containsKey(pair.getKey()))
+                throw new NoSuchVertexException("There is no such vertex " + pair.getKey());
+            if (!connectionsMap.containsKey(pair.getValue()))
+                throw new NoSuchVertexException("There is no such vertex " + pair.getValue());
+        }
+        return runAlgorithm(new ShortestDistancesBatchGraphAlgorithm<>(pairs));
     }
 
     /**
@@ -156,13 +366,40 @@ public abstract class AbstractGraph<T, E> implements GraphInterface<T, E> {
     }
 
     /**
-     * @return number of edges in a graph
+     * @return number of edges in a graph, kept up to date by every change of edges
      */
     @Override
     public int getEdgesNumber() {
-        return connectionsMap.values().stream().mapToInt(List::size).sum();
+        return edgesNumber;
+    }
+
+    /**
+     * Edges with null or non numeric values are considered to have weight 1
+     *
+     * @return sum of weights of all edges in a graph, kept up to date by every change of edges
+     */
+    public long getTotalWeight() {
+        return totalWeight;
     }
 
+    /**
+     * @param vertexId id of a vertex
+     * @return number of edges that start in a vertex
+     * @throws NoSuchVertexException if a specified vertex doesn't exist
+     */
+    public int getOutDegree(T vertexId) throws NoSuchVertexException {
+        if (!connectionsMap.containsKey(vertexId))
+            throw new NoSuchVertexException("There is no such vertex " + vertexId);
+        return connectionsMap.get(vertexId).size();
+    }
+
+    /**
+     * @param vertexId id of a vertex
+     * @return number of edges that end in a vertex
+     * @throws NoSuchVertexException if a specified vertex doesn't exist
+     */
+    public abstract int getInDegree(T vertexId) throws NoSuchVertexException;
+
     /**
      * @param vertexId id of an vertex to check
      * @return true if vertex present and false otherwise
@@ -184,16 +421,15 @@ public abstract class AbstractGraph<T, E> implements GraphInterface<T, E> {
 
 
     /**
-     * Sets specified type for specified point
+     * Sets specified type for specified point, points that are not vertexes of a graph are ignored
      *
      * @param point point to be added
      * @param type  type of point to be added
      */
     @Override
     public void updatePointType(T point, PointType type) {
-        if (types.containsKey(point) && types.get(point) != type) points.get(types.get(point)).remove(point);
-        points.get(type).add(point);
-        types.put(point, type);
+        int index = dictionary.getIndex(point);
+        if (index != -1) pointTypes.set(index, type);
     }
 
     /**
@@ -202,16 +438,17 @@ public abstract class AbstractGraph<T, E> implements GraphInterface<T, E> {
      */
     @Override
     public boolean isFreePoint(T point) {
-        return types.getOrDefault(point, PointType.FREE) == PointType.FREE;
+        int index = dictionary.getIndex(point);
+        return index == -1 || pointTypes.get(index) == PointType.FREE;
     }
 
     /**
      * @param type - type of points to retrieve
-     * @return Set of points with specified type
+     * @return read-only set of points with specified type
      */
     @Override
     public Set<T> getPointsOfType(PointType type) {
-        return points.get(type);
+        return pointTypes.getPoints(type);
     }
 
     /**
@@ -220,29 +457,89 @@ public abstract class AbstractGraph<T, E> implements GraphInterface<T, E> {
      */
     @Override
     public boolean isPointSelected(T point) {
-        return points.get(PointType.SOURCE).contains(point) || points.get(PointType.BLOCKS).contains(point) || points.get(PointType.FINISH).contains(point);
-
+        return !isFreePoint(point);
     }
 
     /**
      * Sets FREE type to all points
      */
     public void resetSelectedPoints() {
-        for (PointType type : PointType.values()) {
-            points.get(type).clear();
-        }
-        types.clear();
+        pointTypes.clear();
     }
 
     /**
      * @param firstVertex  id of a first vertex
      * @param secondVertex id of a second vertex
-     * @return value of an edge between a specified vertexes
+     * @return value of an edge between a specified vertexes or null if there is no such edge
      * @throws NoSuchVertexException if a vertex with a specified id doesn't exist
      */
     @Override
     public E getEdgeValue(T firstVertex, T secondVertex) throws NoSuchVertexException {
-        return edgesValues.get(new Pair<>(firstVertex, secondVertex));
+        int index = dictionary.getIndex(firstVertex);
+        if (index == -1) return null;
+        int position = connectionsByIndex.get(index).indexOf(secondVertex);
+        return position == -1 ? null : getEdgeValueByIndex(index, position);
+    }
+
+    @Override
+    public int getVertexIndexBound() {
+        return dictionary.size();
+    }
+
+    @Override
+    public int getVertexIndex(T vertexId) {
+        return dictionary.getIndex(vertexId);
+    }
+
+    @Override
+    public T getVertexByIndex(int index) {
+        return dictionary.get(index);
+    }
+
+    @Override
+    public int getDegreeByIndex(int index) {
+        return connectionsByIndex.get(index).size();
+    }
+
+    @Override
+    public int getNeighbourByIndex(int index, int position) {
+        return edgesByIndex.get(index).getNeighbour(position);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E getEdgeValueByIndex(int index, int position) {
+        return (E) edgesByIndex.get(index).getValue(position);
+    }
+
+    @Override
+    public int getEdgeWeightByIndex(int index, int position) {
+        return edgesByIndex.get(index).getWeight(position);
+    }
+
+    /**
+     * Array is shared with a graph and valid only until next change of edges of a vertex
+     *
+     * @param index index of a vertex
+     * @return array, where first degree elements are indexes of vertexes where edges end
+     */
+    public int[] getNeighboursByIndex(int index) {
+        return edgesByIndex.get(index).neighbours;
+    }
+
+    /**
+     * Array is shared with a graph and valid only until next change of edges of a vertex
+     *
+     * @param index index of a vertex
+     * @return array, where first degree elements are weights of edges
+     */
+    public int[] getWeightsByIndex(int index) {
+        return edgesByIndex.get(index).weights;
+    }
+
+    @Override
+    public PointType getPointTypeByIndex(int index) {
+        return pointTypes.get(index);
     }
 
 }
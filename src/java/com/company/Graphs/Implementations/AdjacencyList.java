@@ -0,0 +1,165 @@
+package com.company.Graphs.Implementations;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * List of vertexes adjacent to a vertex. Vertexes are stored in an array, so they are walked by positions.
+ * While list is small contains and remove scan the array, after size passes INDEX_THRESHOLD
+ * positions of vertexes are additionally stored in an open addressing table with linear probing,
+ * so contains, indexOf and remove take constant expected time.
+ * Remove moves the last vertex to the freed position, so order of vertexes is not kept after removals.
+ * Each vertex must be stored at most once
+ *
+ * @param <T> Type of vertexId
+ */
+public class AdjacencyList<T> extends AbstractList<T> {
+    static final int INDEX_THRESHOLD = 16;
+    private Object[] elements = new Object[4];
+    private int size = 0;
+    /**
+     * Position of a vertex plus one or 0 for empty slots, null while list is not indexed
+     */
+    private int[] slots = null;
+    private int mask = 0;
+
+    public AdjacencyList() {
+    }
+
+    /**
+     * @param vertexes vertexes to add
+     */
+    public AdjacencyList(Collection<? extends T> vertexes) {
+        addAll(vertexes);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index >= size) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        return (T) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(T vertex) {
+        if (size == elements.length) elements = Arrays.copyOf(elements, 2 * size);
+        elements[size++] = vertex;
+        ++modCount;
+        if (slots != null) {
+            if (2 * size > slots.length) buildIndex(2 * slots.length);
+            else insertSlot(size - 1);
+        } else if (size > INDEX_THRESHOLD) {
+            buildIndex(Integer.highestOneBit(size) << 2);
+        }
+        return true;
+    }
+
+    @Override
+    public void add(int index, T vertex) {
+        if (index != size) throw new UnsupportedOperationException("Vertexes can only be added to the end of a list");
+        add(vertex);
+    }
+
+    @Override
+    public int indexOf(Object vertex) {
+        if (slots == null) {
+            for (int position = 0; position < size; ++position) {
+                if (elements[position].equals(vertex)) return position;
+            }
+            return -1;
+        }
+        int slot = findSlot(vertex);
+        return slot == -1 ? -1 : slots[slot] - 1;
+    }
+
+    @Override
+    public boolean contains(Object vertex) {
+        return indexOf(vertex) != -1;
+    }
+
+    @Override
+    public boolean remove(Object vertex) {
+        int position = indexOf(vertex);
+        if (position == -1) return false;
+        remove(position);
+        return true;
+    }
+
+    /**
+     * Removes vertex at a position, the last vertex is moved to its place
+     *
+     * @param index position of a vertex
+     * @return removed vertex
+     */
+    @Override
+    public T remove(int index) {
+        T removed = get(index);
+        int last = size - 1;
+        if (slots != null) {
+            deleteSlot(findSlot(removed));
+            if (index != last) slots[findSlot(elements[last])] = index + 1;
+        }
+        elements[index] = elements[last];
+        elements[last] = null;
+        --size;
+        ++modCount;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+        slots = null;
+        ++modCount;
+    }
+
+    private int getHash(Object vertex) {
+        int hash = vertex.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void buildIndex(int capacity) {
+        slots = new int[capacity];
+        mask = capacity - 1;
+        for (int position = 0; position < size; ++position) {
+            insertSlot(position);
+        }
+    }
+
+    private void insertSlot(int position) {
+        int slot = getHash(elements[position]);
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = position + 1;
+    }
+
+    private int findSlot(Object vertex) {
+        for (int slot = getHash(vertex); slots[slot] != 0; slot = (slot + 1) & mask) {
+            if (elements[slots[slot] - 1].equals(vertex)) return slot;
+        }
+        return -1;
+    }
+
+    /**
+     * Empties a slot and shifts back following slots of a cluster that can't be found after it is emptied
+     */
+    private void deleteSlot(int slot) {
+        int hole = slot;
+        for (int next = (hole + 1) & mask; slots[next] != 0; next = (next + 1) & mask) {
+            int home = getHash(elements[slots[next] - 1]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                slots[hole] = slots[next];
+                hole = next;
+            }
+        }
+        slots[hole] = 0;
+    }
+}
@@ -0,0 +1,484 @@
+package com.company.Graphs.Implementations;
+
+import com.company.Graphs.Algorithms.AlgorithmBudget;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.BidirectionalBFSGraphAlgorithm;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.ConnectionCheckGraphAlgorithm;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.ShortestDistancesBatchGraphAlgorithm;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.VertexPairDistance;
+import com.company.Graphs.Algorithms.GraphAlgorithmInterface;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.IndexedGraphInterface;
+import com.company.Graphs.PointTypeStore;
+import com.company.Graphs.ReverseIndexedGraphInterface;
+import com.company.Graphs.VertexIdDictionary;
+import javafx.util.Pair;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+/**
+ * Immutable snapshot of a graph stored in compressed sparse row format.
+ * Edges of a vertex with index i are stored in targets from offsets[i] to offsets[i + 1].
+ * Edges that end in a vertex are stored the same way in a reverse snapshot, which is built on the first backward walk.
+ * Only types of points can be changed, all methods that change structure of a graph throw UnsupportedOperationException
+ *
+ * @param <T> Type of vertexId
+ * @param <E> Type of values in vertex
+ */
+public class CsrGraph<T, E> implements ReverseIndexedGraphInterface<T, E> {
+    private static final String READ_ONLY_MESSAGE = "CsrGraph is read-only";
+    private final VertexIdDictionary<T> dictionary = new VertexIdDictionary<>();
+    private final PointTypeStore<T> pointTypes = new PointTypeStore<>(this);
+    private final Object[] vertexValues;
+    private final int[] offsets;
+    private final int[] targets;
+    private final Object[] edgeValues;
+    private final int[] weights;
+    private volatile Reverse reverse;
+
+    private static class Reverse {
+        private final int[] offsets;
+        private final int[] sources;
+        private final int[] weights;
+
+        private Reverse(int[] offsets, int[] sources, int[] weights) {
+            this.offsets = offsets;
+            this.sources = sources;
+            this.weights = weights;
+        }
+    }
+
+    private CsrGraph(int vertexNumber, int edgesNumber) {
+        vertexValues = new Object[vertexNumber];
+        offsets = new int[vertexNumber + 1];
+        targets = new int[edgesNumber];
+        edgeValues = new Object[edgesNumber];
+        weights = new int[edgesNumber];
+    }
+
+    /**
+     * Builds a snapshot of a specified graph
+     *
+     * @param graph graph to take snapshot of
+     * @return snapshot of a graph
+     */
+    public static <T, E> CsrGraph<T, E> of(GraphInterface<T, E> graph) {
+        List<T> vertexesIds = graph.getAllVertexesIds();
+        List<List<T>> neighbours = new ArrayList<>(vertexesIds.size());
+        int edgesNumber = 0;
+        for (T vertex : vertexesIds) {
+            List<T> list = getNeighbours(graph, vertex);
+            neighbours.add(list);
+            edgesNumber += list.size();
+        }
+
+        CsrGraph<T, E> csr = new CsrGraph<>(vertexesIds.size(), edgesNumber);
+        for (int i = 0; i < vertexesIds.size(); ++i) {
+            csr.addVertexSnapshot(i, vertexesIds.get(i), graph);
+        }
+        for (int i = 0; i < vertexesIds.size(); ++i) {
+            csr.addEdgesSnapshot(i, neighbours.get(i), graph);
+        }
+        for (PointType type : PointType.values()) {
+            if (type == PointType.FREE) continue;
+            for (T point : graph.getPointsOfType(type)) {
+                csr.updatePointType(point, type);
+            }
+        }
+        return csr;
+    }
+
+    private static <T, E> List<T> getNeighbours(GraphInterface<T, E> graph, T vertex) {
+        try {
+            return graph.getAllDirectlyConnectedVertexes(vertex);
+        } catch (NoSuchVertexException ignored) {
+            return Collections.emptyList();
+        }
+    }
+
+    private void addVertexSnapshot(int index, T vertex, GraphInterface<T, E> graph) {
+        dictionary.add(vertex);
+        try {
+            vertexValues[index] = graph.getVertexValue(vertex);
+        } catch (NoSuchVertexException ignored) {
+        }
+    }
+
+    private void addEdgesSnapshot(int index, List<T> neighbours, GraphInterface<T, E> graph) {
+        int edge = offsets[index];
+        T vertex = getVertexByIndex(index);
+        for (T to : neighbours) {
+            targets[edge] = dictionary.getIndex(to);
+            try {
+                edgeValues[edge] = graph.getEdgeValue(vertex, to);
+            } catch (NoSuchVertexException ignored) {
+            }
+            weights[edge] = IndexedGraphInterface.weightOf(edgeValues[edge]);
+            ++edge;
+        }
+        offsets[index + 1] = edge;
+    }
+
+    private Reverse getReverse() {
+        Reverse result = reverse;
+        if (result != null) return result;
+        synchronized (this) {
+            if (reverse == null) reverse = buildReverse();
+            return reverse;
+        }
+    }
+
+    private Reverse buildReverse() {
+        int vertexNumber = offsets.length - 1;
+        int[] reverseOffsets = new int[vertexNumber + 1];
+        int[] sources = new int[targets.length];
+        int[] reverseWeights = new int[targets.length];
+        for (int target : targets) {
+            ++reverseOffsets[target + 1];
+        }
+        for (int index = 0; index < vertexNumber; ++index) {
+            reverseOffsets[index + 1] += reverseOffsets[index];
+        }
+        int[] positions = Arrays.copyOf(reverseOffsets, vertexNumber);
+        for (int index = 0; index < vertexNumber; ++index) {
+            for (int edge = offsets[index]; edge < offsets[index + 1]; ++edge) {
+                int position = positions[targets[edge]]++;
+                sources[position] = index;
+                reverseWeights[position] = weights[edge];
+            }
+        }
+        return new Reverse(reverseOffsets, sources, reverseWeights);
+    }
+
+    private int getExistingVertexIndex(T vertexId) throws NoSuchVertexException {
+        int index = dictionary.getIndex(vertexId);
+        if (index == -1)
+            throw new NoSuchVertexException("There is no such vertex " + vertexId);
+        return index;
+    }
+
+    private int findEdge(int from, int to) {
+        for (int edge = offsets[from]; edge < offsets[from + 1]; ++edge) {
+            if (targets[edge] == to) return edge;
+        }
+        return -1;
+    }
+
+    @Override
+    public int getVertexIndexBound() {
+        return dictionary.size();
+    }
+
+    @Override
+    public int getVertexIndex(T vertexId) {
+        return dictionary.getIndex(vertexId);
+    }
+
+    @Override
+    public T getVertexByIndex(int index) {
+        return dictionary.get(index);
+    }
+
+    @Override
+    public int getDegreeByIndex(int index) {
+        return offsets[index + 1] - offsets[index];
+    }
+
+    @Override
+    public int getNeighbourByIndex(int index, int position) {
+        return targets[offsets[index] + position];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E getEdgeValueByIndex(int index, int position) {
+        return (E) edgeValues[offsets[index] + position];
+    }
+
+    @Override
+    public int getEdgeWeightByIndex(int index, int position) {
+        return weights[offsets[index] + position];
+    }
+
+    @Override
+    public PointType getPointTypeByIndex(int index) {
+        return pointTypes.get(index);
+    }
+
+    @Override
+    public int getInDegreeByIndex(int index) {
+        Reverse reverse = getReverse();
+        return reverse.offsets[index + 1] - reverse.offsets[index];
+    }
+
+    @Override
+    public int getPredecessorByIndex(int index, int position) {
+        Reverse reverse = getReverse();
+        return reverse.sources[reverse.offsets[index] + position];
+    }
+
+    @Override
+    public int getInEdgeWeightByIndex(int index, int position) {
+        Reverse reverse = getReverse();
+        return reverse.weights[reverse.offsets[index] + position];
+    }
+
+    @Override
+    public void addEdge(T firstVertex, T secondVertex) {
+        throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+    }
+
+    @Override
+    public void addEdge(T firstVertex, T secondVertex, E value) {
+        throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+    }
+
+    @Override
+    public void removeEdge(T firstVertex, T secondVertex) {
+        throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+    }
+
+    @Override
+    public void addVertex(T vertexId) {
+        throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+    }
+
+    @Override
+    public void addVertex(T vertexId, E value) {
+        throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+    }
+
+    @Override
+    public void removeVertex(T vertexId) {
+        throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+    }
+
+    @Override
+    public void connectVertexWithNotDirectlyConnectedVertexes(T vertexId) {
+        throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+    }
+
+    /**
+     * @param vertexId id of a vertex
+     * @return value of a vertex with a specified id
+     * @throws NoSuchVertexException if a vertex with a specified id doesn't exist
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E getVertexValue(T vertexId) throws NoSuchVertexException {
+        return (E) vertexValues[getExistingVertexIndex(vertexId)];
+    }
+
+    /**
+     * @param firstVertex  id of a first vertex
+     * @param secondVertex id of a second vertex
+     * @return value of an edge between a specified vertexes
+     * @throws NoSuchVertexException if a vertex with a specified id doesn't exist
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E getEdgeValue(T firstVertex, T secondVertex) throws NoSuchVertexException {
+        int edge = findEdge(getExistingVertexIndex(firstVertex), getExistingVertexIndex(secondVertex));
+        return edge == -1 ? null : (E) edgeValues[edge];
+    }
+
+    /**
+     * @return list of all ids of vertexes in a graph
+     */
+    @Override
+    public List<T> getAllVertexesIds() {
+        return new ArrayList<>(dictionary.getVertexes());
+    }
+
+    /**
+     * @param vertexId id of a vertex
+     * @return read-only list of vertexes connected by an edge with a specified vertex
+     * @throws NoSuchVertexException if a specified vertex doesn't exist
+     */
+    @Override
+    public List<T> getAllDirectlyConnectedVertexes(T vertexId) throws NoSuchVertexException {
+        int index = getExistingVertexIndex(vertexId);
+        return new AbstractList<T>() {
+            @Override
+            public T get(int position) {
+                return getVertexByIndex(getNeighbourByIndex(index, position));
+            }
+
+            @Override
+            public int size() {
+                return getDegreeByIndex(index);
+            }
+        };
+    }
+
+    /**
+     * Allows to run a specific algorithm on a grapht
+     *
+     * @param algorithm algorithm you want to run
+     * @param <P>       type of result
+     * @return returns result of an execution of the algorithm
+     */
+    @Override
+    public <P> P runAlgorithm(GraphAlgorithmInterface<P, T, E> algorithm) {
+        return algorithm.run(this);
+    }
+
+    /**
+     * Runs a specific algorithm in an executor, cancelling of a returned future stops the algorithm
+     *
+     * @param algorithm algorithm you want to run
+     * @param executor  executor in which algorithm runs
+     * @param <P>       type of result
+     * @return future result of an execution of the algorithm
+     */
+    @Override
+    public <P> CompletableFuture<P> runAlgorithmAsync(GraphAlgorithmInterface<P, T, E> algorithm, Executor executor) {
+        return runAlgorithmAsync(algorithm, executor, new AlgorithmBudget());
+    }
+
+    /**
+     * Runs a specific algorithm in an executor with limits of time and visited vertexes,
+     * future of a run that exceeds a limit completes with AlgorithmAbortedException
+     *
+     * @param algorithm algorithm you want to run
+     * @param executor  executor in which algorithm runs
+     * @param budget    limits of a run, used by one run only
+     * @param <P>       type of result
+     * @return future result of an execution of the algorithm
+     */
+    @Override
+    public <P> CompletableFuture<P> runAlgorithmAsync(GraphAlgorithmInterface<P, T, E> algorithm, Executor executor, AlgorithmBudget budget) {
+        return budget.runAsync(this, algorithm, executor);
+    }
+
+    /**
+     * Checks if graph is connected
+     *
+     * @return true if graph is connected and false otherwise
+     */
+    @Override
+    public boolean isGraphConnected() {
+        return runAlgorithm(new ConnectionCheckGraphAlgorithm<>());
+    }
+
+    /**
+     * Counts the shortest distance between two vertexes (considers each vertex of the same length)
+     *
+     * @param firstVertex  id of a first vertex
+     * @param secondVertex id of a second vertex
+     * @return if there is a path from firstVertex to secondVertex returns distance between them
+     * otherwise 2147483647 (2^31 - 1)
+     * @throws NoSuchVertexException
+     */
+    @Override
+    public Integer calculateShortestDistanceBetweenVertexes(T firstVertex, T secondVertex) throws NoSuchVertexException {
+        getExistingVertexIndex(firstVertex);
+        getExistingVertexIndex(secondVertex);
+        return runAlgorithm(new BidirectionalBFSGraphAlgorithm<>(firstVertex, secondVertex));
+    }
+
+    /**
+     * Counts the shortest distances between many pairs of vertexes (considers each vertex of the same length).
+     * Graph is searched once for each distinct first vertex, searches run in parallel
+     *
+     * @param pairs pairs of a first and a second vertex
+     * @return stream of distances in order in which searches finish, distance is 2147483647 (2^31 - 1) if there is no path
+     * @throws NoSuchVertexException if a vertex of a pair doesn't exist
+     */
+    @Override
+    public Stream<VertexPairDistance<T>> calculateShortestDistancesBetweenVertexes(List<Pair<T, T>> pairs) throws NoSuchVertexException {
+        for (Pair<T, T> pair : pairs) {
+            getExistingVertexIndex(pair.getKey());
+            getExistingVertexIndex(pair.getValue());
+        }
+        return runAlgorithm(new ShortestDistancesBatchGraphAlgorithm<>(pairs));
+    }
+
+    /**
+     * @return number of vertexes in a graph
+     */
+    @Override
+    public int getVertexNumber() {
+        return dictionary.size();
+    }
+
+    /**
+     * @return number of edges in a graph
+     */
+    @Override
+    public int getEdgesNumber() {
+        return targets.length;
+    }
+
+    /**
+     * @param vertexId id of an vertex to check
+     * @return true if vertex present and false otherwise
+     */
+    @Override
+    public boolean containsVertex(T vertexId) {
+        return dictionary.getIndex(vertexId) != -1;
+    }
+
+    /**
+     * @param firstVertex  id of vertex where edge starts
+     * @param secondVertex id of vertex where edge ends
+     * @return true if edge is present and false if edge is not present (additionally false if one of vertexes is not present)
+     */
+    @Override
+    public boolean containsEdge(T firstVertex, T secondVertex) {
+        int from = getVertexIndex(firstVertex);
+        int to = getVertexIndex(secondVertex);
+        return from != -1 && to != -1 && findEdge(from, to) != -1;
+    }
+
+    /**
+     * Sets specified type for specified point, points that are not vertexes of a graph are ignored
+     *
+     * @param point point to be added
+     * @param type  type of point to be added
+     */
+    @Override
+    public void updatePointType(T point, PointType type) {
+        int index = dictionary.getIndex(point);
+        if (index != -1) pointTypes.set(index, type);
+    }
+
+    /**
+     * @param point - point to check
+     * @return true if type of point is FREE, otherwise false
+     */
+    @Override
+    public boolean isFreePoint(T point) {
+        int index = dictionary.getIndex(point);
+        return index == -1 || pointTypes.get(index) == PointType.FREE;
+    }
+
+    /**
+     * @param type - type of points to retrieve
+     * @return read-only set of points with specified type
+     */
+    @Override
+    public Set<T> getPointsOfType(PointType type) {
+        return pointTypes.getPoints(type);
+    }
+
+    /**
+     * @param point point to check
+     * @return true if point is of type is not FREE
+     */
+    @Override
+    public boolean isPointSelected(T point) {
+        return !isFreePoint(point);
+    }
+
+    /**
+     * Sets FREE type to all points
+     */
+    @Override
+    public void resetSelectedPoints() {
+        pointTypes.clear();
+    }
+}
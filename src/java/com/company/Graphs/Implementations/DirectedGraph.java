@@ -3,15 +3,80 @@ package com.company.Graphs.Implementations;
 import com.company.Graphs.Errors.EdgeAlreadyExistsException;
 import com.company.Graphs.Errors.NoSuchEdgeException;
 import com.company.Graphs.Errors.NoSuchVertexException;
-import javafx.util.Pair;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.IndexedGraphInterface;
+import com.company.Graphs.ReverseIndexedGraphInterface;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
+ * Besides lists of vertexes where edges of a vertex end stores lists of vertexes where edges to a vertex start
+ * with their indexes and weights of edges, so edges can be walked backwards
+ *
  * @param <T> Type of vertexId
  * @param <E> Type of values in vertex
  */
-public class DirectedGraph<T, E> extends AbstractGraph<T, E> {
+public class DirectedGraph<T, E> extends AbstractGraph<T, E> implements ReverseIndexedGraphInterface<T, E> {
+    private final Map<T, List<T>> predecessorsMap = new HashMap<>();
+    private final List<Edges> predecessorsByIndex = new ArrayList<>();
+
+    /**
+     * Adds a new vertex with a specific id and value
+     *
+     * @param vertexId id of a new vertex
+     * @param value    value of a new vertex
+     * @throws VertexAlreadyExistsException if a vertex with a specified id already exists
+     */
+    @Override
+    public void addVertex(T vertexId, E value) throws VertexAlreadyExistsException {
+        super.addVertex(vertexId, value);
+        predecessorsMap.put(vertexId, new AdjacencyList<>());
+        predecessorsByIndex.add(new Edges());
+    }
+
+    /**
+     * Removes a vertex with a specific id and value.
+     * In addition, it deletes all edges to and from a vertex, only lists of its neighbours are changed
+     *
+     * @param vertexId id of a vertex to delete
+     * @throws NoSuchVertexException if a vertex with a specified id doesn't exist
+     */
+    @Override
+    public void removeVertex(T vertexId) throws NoSuchVertexException {
+        if (!connectionsMap.containsKey(vertexId))
+            throw new NoSuchVertexException("There is no such vertex " + vertexId);
+        int index = dictionary.getIndex(vertexId);
+        List<T> successors = connectionsMap.get(vertexId);
+        for (int position = 0; position < successors.size(); ++position) {
+            T successor = successors.get(position);
+            removeEdgeStatistics(getEdgeWeightByIndex(index, position));
+            if (!successor.equals(vertexId)) removePredecessor(successor, vertexId);
+        }
+        for (T predecessor : predecessorsMap.remove(vertexId)) {
+            if (predecessor.equals(vertexId)) continue;
+            removeEdgeStatistics(removeFromList(predecessor, vertexId));
+        }
+
+        int last = predecessorsByIndex.size() - 1;
+        T moved = dictionary.get(last);
+        removeVertexEntry(vertexId);
+        predecessorsByIndex.set(index, predecessorsByIndex.get(last));
+        predecessorsByIndex.remove(last);
+        if (index == last) return;
+        for (T successor : connectionsMap.get(moved)) {
+            int successorIndex = dictionary.getIndex(successor);
+            predecessorsByIndex.get(successorIndex).setNeighbour(predecessorsMap.get(successor).indexOf(moved), index);
+        }
+    }
+
+    @Override
+    protected List<T> getHolders(T vertexId) {
+        return predecessorsMap.get(vertexId);
+    }
+
     /**
      * Adds an edge between two vertexes
      *
@@ -41,8 +106,12 @@ public class DirectedGraph<T, E> extends AbstractGraph<T, E> {
             throw new NoSuchVertexException("There is no such vertex " + secondVertex);
         if (connectionsMap.get(firstVertex).contains(secondVertex))
             throw new EdgeAlreadyExistsException("Edge between " + firstVertex + " and " + secondVertex + " already exists");
-        connectionsMap.get(firstVertex).add(secondVertex);
-        edgesValues.put(new Pair<>(firstVertex, secondVertex), value);
+        int weight = IndexedGraphInterface.weightOf(value);
+        addToList(firstVertex, secondVertex, value, weight);
+        predecessorsByIndex.get(dictionary.getIndex(secondVertex)).add(dictionary.getIndex(firstVertex), weight, null);
+        predecessorsMap.get(secondVertex).add(firstVertex);
+        ++edgesNumber;
+        totalWeight += weight;
     }
 
     /**
@@ -61,8 +130,23 @@ public class DirectedGraph<T, E> extends AbstractGraph<T, E> {
             throw new NoSuchVertexException("There is no such vertex " + secondVertex);
         if (!connectionsMap.get(firstVertex).contains(secondVertex))
             throw new NoSuchEdgeException("There is no such edge between " + firstVertex + " and " + secondVertex);
-        connectionsMap.get(firstVertex).remove(secondVertex);
-        edgesValues.remove(new Pair<>(firstVertex, secondVertex));
+        removeEdgeStatistics(removeFromList(firstVertex, secondVertex));
+        removePredecessor(secondVertex, firstVertex);
+    }
+
+    private void removeEdgeStatistics(int weight) {
+        --edgesNumber;
+        totalWeight -= weight;
+    }
+
+    /**
+     * Removes a predecessor from a list of predecessors of a vertex, the last one is moved to its position
+     */
+    private void removePredecessor(T vertexId, T predecessor) {
+        List<T> predecessors = predecessorsMap.get(vertexId);
+        int position = predecessors.indexOf(predecessor);
+        predecessorsByIndex.get(dictionary.getIndex(vertexId)).remove(position);
+        predecessors.remove(position);
     }
 
     /**
@@ -86,9 +170,11 @@ public class DirectedGraph<T, E> extends AbstractGraph<T, E> {
     public void removeAllEdgesPointedToVertex(T vertexId) throws NoSuchVertexException {
         if (!connectionsMap.containsKey(vertexId))
             throw new NoSuchVertexException("There is no such vertex " + vertexId);
-        for (List<T> list : connectionsMap.values()) {
-            list.remove(vertexId);
+        for (T predecessor : predecessorsMap.get(vertexId)) {
+            removeEdgeStatistics(removeFromList(predecessor, vertexId));
         }
+        predecessorsMap.get(vertexId).clear();
+        predecessorsByIndex.get(dictionary.getIndex(vertexId)).clear();
     }
 
     /**
@@ -100,7 +186,50 @@ public class DirectedGraph<T, E> extends AbstractGraph<T, E> {
     public void removeAllEdgesPointedFromVertex(T vertexId) throws NoSuchVertexException {
         if (!connectionsMap.containsKey(vertexId))
             throw new NoSuchVertexException("There is no such vertex " + vertexId);
-        connectionsMap.get(vertexId).clear();
+        int index = dictionary.getIndex(vertexId);
+        List<T> successors = connectionsMap.get(vertexId);
+        for (int position = 0; position < successors.size(); ++position) {
+            removeEdgeStatistics(getEdgeWeightByIndex(index, position));
+            removePredecessor(successors.get(position), vertexId);
+        }
+        clearList(vertexId);
+    }
+
+    /**
+     * @param vertexId id of a vertex
+     * @return list of vertexes from which an edge goes to a specified vertex
+     * @throws NoSuchVertexException if a specified vertex doesn't exist
+     */
+    public List<T> getAllVertexesPointedToVertex(T vertexId) throws NoSuchVertexException {
+        if (!predecessorsMap.containsKey(vertexId))
+            throw new NoSuchVertexException("There is no such vertex " + vertexId);
+        return predecessorsMap.get(vertexId);
+    }
+
+    /**
+     * @param vertexId id of a vertex
+     * @return number of edges that end in a vertex
+     * @throws NoSuchVertexException if a specified vertex doesn't exist
+     */
+    @Override
+    public int getInDegree(T vertexId) throws NoSuchVertexException {
+        if (!predecessorsMap.containsKey(vertexId))
+            throw new NoSuchVertexException("There is no such vertex " + vertexId);
+        return predecessorsMap.get(vertexId).size();
     }
 
+    @Override
+    public int getInDegreeByIndex(int index) {
+        return predecessorsByIndex.get(index).size();
+    }
+
+    @Override
+    public int getPredecessorByIndex(int index, int position) {
+        return predecessorsByIndex.get(index).getNeighbour(position);
+    }
+
+    @Override
+    public int getInEdgeWeightByIndex(int index, int position) {
+        return predecessorsByIndex.get(index).getWeight(position);
+    }
 }
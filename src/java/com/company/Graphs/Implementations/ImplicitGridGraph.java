@@ -0,0 +1,553 @@
+package com.company.Graphs.Implementations;
+
+import com.company.Graphs.Algorithms.AlgorithmBudget;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.BidirectionalBFSGraphAlgorithm;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.ConnectionCheckGraphAlgorithm;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.ShortestDistancesBatchGraphAlgorithm;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.VertexPairDistance;
+import com.company.Graphs.Algorithms.GraphAlgorithmInterface;
+import com.company.Graphs.Errors.EdgeAlreadyExistsException;
+import com.company.Graphs.Errors.NoSuchEdgeException;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.GridPoint;
+import com.company.Graphs.IndexedGraphInterface;
+import com.company.Graphs.PointTypeStore;
+import com.company.Graphs.ReverseIndexedGraphInterface;
+import javafx.util.Pair;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+/**
+ * Class for representing grid rows x cols as a graph without storing its vertexes and edges.
+ * Neighbours are calculated from row and column of a point, only changes of a grid are stored:
+ * removed cells and edges in bitsets, weights of cells and types of points in arrays.
+ * Point with row r and column c has index r * cols + c.
+ * Value of a vertex is a weight of a cell, value of an edge is a weight of a cell where it ends.
+ * Weight of a cell is 1 until it is set, array of weights is allocated by the first cell with other weight
+ */
+public class ImplicitGridGraph implements ReverseIndexedGraphInterface<GridPoint, Integer> {
+    private static final int[] ROW_SHIFTS = {-1, 0, 0, 1};
+    private static final int[] COL_SHIFTS = {0, -1, 1, 0};
+    private static final int DEFAULT_WEIGHT = 1;
+    private final int rows;
+    private final int cols;
+    private final PointTypeStore<GridPoint> pointTypes = new PointTypeStore<>(this);
+    private BitSet removedCells;
+    private BitSet removedEdges;
+    private int[] weights;
+    private int removedCellsNumber = 0;
+    private long edgesNumber;
+
+    public ImplicitGridGraph(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        edgesNumber = (long) rows * (cols - 1) + (long) (rows - 1) * cols;
+    }
+
+    /**
+     * @return grid with the same cells, edges, weights and types of points, later changes of a grid are not reflected in it
+     */
+    public ImplicitGridGraph copy() {
+        ImplicitGridGraph copy = new ImplicitGridGraph(rows, cols);
+        copy.removedCells = removedCells == null ? null : (BitSet) removedCells.clone();
+        copy.removedEdges = removedEdges == null ? null : (BitSet) removedEdges.clone();
+        copy.weights = weights == null ? null : weights.clone();
+        copy.removedCellsNumber = removedCellsNumber;
+        copy.edgesNumber = edgesNumber;
+        copy.pointTypes.copyFrom(pointTypes);
+        return copy;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Sets weight of a cell, edges that end in a cell get the same value
+     *
+     * @param point  point of a cell
+     * @param weight weight of a cell
+     * @throws NoSuchVertexException if a cell doesn't exist
+     */
+    public void setCellWeight(GridPoint point, int weight) throws NoSuchVertexException {
+        setWeight(getExistingVertexIndex(point), weight);
+    }
+
+    private void setWeight(int index, int weight) {
+        if (weights == null) {
+            if (weight == DEFAULT_WEIGHT) return;
+            weights = new int[rows * cols];
+            Arrays.fill(weights, DEFAULT_WEIGHT);
+        }
+        weights[index] = weight;
+    }
+
+    private int getWeight(int index) {
+        return weights == null ? DEFAULT_WEIGHT : weights[index];
+    }
+
+    /**
+     * @param row row of a cell
+     * @param col column of a cell
+     * @return true if cell is present in a grid and is not a block, otherwise false
+     */
+    public boolean isOpenCell(int row, int col) {
+        if (!isInGrid(row, col)) return false;
+        int index = row * cols + col;
+        return isPresent(index) && pointTypes.get(index) != PointType.BLOCKS;
+    }
+
+    private boolean isInGrid(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
+    }
+
+    private boolean isInGrid(GridPoint point) {
+        return point != null && isInGrid(point.getRow(), point.getCol());
+    }
+
+    private boolean isPresent(int index) {
+        return removedCells == null || !removedCells.get(index);
+    }
+
+    private int getExistingVertexIndex(GridPoint vertexId) throws NoSuchVertexException {
+        int index = getVertexIndex(vertexId);
+        if (index == -1)
+            throw new NoSuchVertexException("There is no such vertex " + vertexId);
+        return index;
+    }
+
+    /**
+     * @return bit that stores removal of edge between two neighbour cells or -1 if cells are not neighbours
+     */
+    private int getEdgeBit(int from, int to) {
+        int low = Math.min(from, to);
+        int high = Math.max(from, to);
+        if (high - low == cols) return 2 * low + 1;
+        if (high - low == 1 && high % cols != 0) return 2 * low;
+        return -1;
+    }
+
+    private boolean isEdgePresent(int from, int to) {
+        int bit = getEdgeBit(from, to);
+        return bit != -1 && isPresent(from) && isPresent(to) && (removedEdges == null || !removedEdges.get(bit));
+    }
+
+    /**
+     * @return index of a neighbour in a specified direction or -1 if there is no edge in that direction
+     */
+    private int getNeighbourInDirection(int index, int direction) {
+        int row = index / cols + ROW_SHIFTS[direction];
+        int col = index % cols + COL_SHIFTS[direction];
+        if (!isInGrid(row, col)) return -1;
+        int neighbour = row * cols + col;
+        return isEdgePresent(index, neighbour) ? neighbour : -1;
+    }
+
+    private void markEdgeRemoved(int from, int to) {
+        if (removedEdges == null) removedEdges = new BitSet(2 * rows * cols);
+        removedEdges.set(getEdgeBit(from, to));
+        --edgesNumber;
+    }
+
+    @Override
+    public int getVertexIndexBound() {
+        return rows * cols;
+    }
+
+    @Override
+    public int getVertexIndex(GridPoint vertexId) {
+        if (!isInGrid(vertexId)) return -1;
+        int index = vertexId.getRow() * cols + vertexId.getCol();
+        return isPresent(index) ? index : -1;
+    }
+
+    @Override
+    public GridPoint getVertexByIndex(int index) {
+        return isPresent(index) ? new GridPoint(index / cols, index % cols) : null;
+    }
+
+    @Override
+    public int getDegreeByIndex(int index) {
+        int degree = 0;
+        for (int direction = 0; direction < ROW_SHIFTS.length; ++direction) {
+            if (getNeighbourInDirection(index, direction) != -1) ++degree;
+        }
+        return degree;
+    }
+
+    @Override
+    public int getNeighbourByIndex(int index, int position) {
+        int skipped = 0;
+        for (int direction = 0; direction < ROW_SHIFTS.length; ++direction) {
+            int neighbour = getNeighbourInDirection(index, direction);
+            if (neighbour == -1) continue;
+            if (skipped++ == position) return neighbour;
+        }
+        throw new IndexOutOfBoundsException("Vertex " + index + " has no edge " + position);
+    }
+
+    @Override
+    public Integer getEdgeValueByIndex(int index, int position) {
+        return getEdgeWeightByIndex(index, position);
+    }
+
+    @Override
+    public int getEdgeWeightByIndex(int index, int position) {
+        return getWeight(getNeighbourByIndex(index, position));
+    }
+
+    @Override
+    public PointType getPointTypeByIndex(int index) {
+        return pointTypes.get(index);
+    }
+
+    @Override
+    public int getInDegreeByIndex(int index) {
+        return getDegreeByIndex(index);
+    }
+
+    @Override
+    public int getPredecessorByIndex(int index, int position) {
+        return getNeighbourByIndex(index, position);
+    }
+
+    @Override
+    public int getInEdgeWeightByIndex(int index, int position) {
+        return getWeight(index);
+    }
+
+    /**
+     * Adds an edge between two neighbour cells
+     *
+     * @param firstVertex  first vertex
+     * @param secondVertex second vertex
+     * @throws NoSuchVertexException      if firstVertex or secondVertex doesn't exist
+     * @throws EdgeAlreadyExistsException if an edge between firstVertex and secondVertex exists
+     */
+    @Override
+    public void addEdge(GridPoint firstVertex, GridPoint secondVertex) throws NoSuchVertexException, EdgeAlreadyExistsException {
+        int from = getExistingVertexIndex(firstVertex);
+        int to = getExistingVertexIndex(secondVertex);
+        if (getEdgeBit(from, to) == -1)
+            throw new UnsupportedOperationException("Only neighbour cells can be connected in a grid");
+        if (isEdgePresent(from, to))
+            throw new EdgeAlreadyExistsException("Edge between " + firstVertex + " and " + secondVertex + " already exists");
+        removedEdges.clear(getEdgeBit(from, to));
+        ++edgesNumber;
+    }
+
+    /**
+     * Edges of a grid take their values from weights of cells, so only null value is accepted
+     *
+     * @param firstVertex  first vertex
+     * @param secondVertex second vertex
+     * @param value        value of an edge
+     * @throws NoSuchVertexException      if firstVertex or secondVertex doesn't exist
+     * @throws EdgeAlreadyExistsException if an edge between firstVertex and secondVertex exists
+     */
+    @Override
+    public void addEdge(GridPoint firstVertex, GridPoint secondVertex, Integer value) throws NoSuchVertexException, EdgeAlreadyExistsException {
+        if (value != null)
+            throw new UnsupportedOperationException("Values of edges in a grid are defined by weights of cells");
+        addEdge(firstVertex, secondVertex);
+    }
+
+    /**
+     * Removes an edge between two vertexes
+     *
+     * @param firstVertex  first vertex
+     * @param secondVertex second vertex
+     * @throws NoSuchVertexException if firstVertex or secondVertex doesn't exist
+     * @throws NoSuchEdgeException   if an edge between firstVertex and secondVertex doesn't exists
+     */
+    @Override
+    public void removeEdge(GridPoint firstVertex, GridPoint secondVertex) throws NoSuchVertexException, NoSuchEdgeException {
+        int from = getExistingVertexIndex(firstVertex);
+        int to = getExistingVertexIndex(secondVertex);
+        if (!isEdgePresent(from, to))
+            throw new NoSuchEdgeException("There is no such edge between " + firstVertex + " and " + secondVertex);
+        markEdgeRemoved(from, to);
+    }
+
+    /**
+     * Restores a removed cell without edges and with weight 1
+     *
+     * @param vertexId id of a new vertex
+     * @throws VertexAlreadyExistsException if a vertex with a specified id already exists
+     */
+    @Override
+    public void addVertex(GridPoint vertexId) throws VertexAlreadyExistsException {
+        addVertex(vertexId, null);
+    }
+
+    /**
+     * Restores a removed cell without edges and with specified weight
+     *
+     * @param vertexId id of a new vertex
+     * @param value    weight of a cell, null restores weight 1
+     * @throws VertexAlreadyExistsException if a vertex with a specified id already exists
+     */
+    @Override
+    public void addVertex(GridPoint vertexId, Integer value) throws VertexAlreadyExistsException {
+        if (!isInGrid(vertexId))
+            throw new UnsupportedOperationException("Point " + vertexId + " is out of grid");
+        int index = vertexId.getRow() * cols + vertexId.getCol();
+        if (isPresent(index))
+            throw new VertexAlreadyExistsException("Vertex " + vertexId + " already exists");
+        removedCells.clear(index);
+        --removedCellsNumber;
+        setWeight(index, value == null ? DEFAULT_WEIGHT : value);
+    }
+
+    /**
+     * Removes a cell and all its edges
+     *
+     * @param vertexId id of a vertex to delete
+     * @throws NoSuchVertexException if a vertex with a specified id doesn't exist
+     */
+    @Override
+    public void removeVertex(GridPoint vertexId) throws NoSuchVertexException {
+        int index = getExistingVertexIndex(vertexId);
+        for (int direction = 0; direction < ROW_SHIFTS.length; ++direction) {
+            int neighbour = getNeighbourInDirection(index, direction);
+            if (neighbour != -1) markEdgeRemoved(index, neighbour);
+        }
+        if (removedCells == null) removedCells = new BitSet(rows * cols);
+        removedCells.set(index);
+        ++removedCellsNumber;
+        pointTypes.set(index, PointType.FREE);
+    }
+
+    /**
+     * @param vertexId id of a vertex
+     * @return weight of a cell
+     * @throws NoSuchVertexException if a vertex with a specified id doesn't exist
+     */
+    @Override
+    public Integer getVertexValue(GridPoint vertexId) throws NoSuchVertexException {
+        return getWeight(getExistingVertexIndex(vertexId));
+    }
+
+    /**
+     * @param firstVertex  id of a first vertex
+     * @param secondVertex id of a second vertex
+     * @return weight of a cell where edge ends or null if cells are not neighbours or edge between them was removed
+     * @throws NoSuchVertexException if a vertex with a specified id doesn't exist
+     */
+    @Override
+    public Integer getEdgeValue(GridPoint firstVertex, GridPoint secondVertex) throws NoSuchVertexException {
+        int from = getExistingVertexIndex(firstVertex);
+        int to = getExistingVertexIndex(secondVertex);
+        return isEdgePresent(from, to) ? getWeight(to) : null;
+    }
+
+    /**
+     * @return list of all ids of vertexes in a graph
+     */
+    @Override
+    public List<GridPoint> getAllVertexesIds() {
+        List<GridPoint> result = new ArrayList<>(getVertexNumber());
+        for (int index = 0; index < rows * cols; ++index) {
+            if (isPresent(index)) result.add(getVertexByIndex(index));
+        }
+        return result;
+    }
+
+    /**
+     * @param vertexId id of a vertex
+     * @return list of neighbour cells connected by an edge with a specified cell
+     * @throws NoSuchVertexException if a specified vertex doesn't exist
+     */
+    @Override
+    public List<GridPoint> getAllDirectlyConnectedVertexes(GridPoint vertexId) throws NoSuchVertexException {
+        int index = getExistingVertexIndex(vertexId);
+        List<GridPoint> result = new ArrayList<>(ROW_SHIFTS.length);
+        for (int direction = 0; direction < ROW_SHIFTS.length; ++direction) {
+            int neighbour = getNeighbourInDirection(index, direction);
+            if (neighbour != -1) result.add(getVertexByIndex(neighbour));
+        }
+        return result;
+    }
+
+    @Override
+    public void connectVertexWithNotDirectlyConnectedVertexes(GridPoint vertexId) {
+        throw new UnsupportedOperationException("Only neighbour cells can be connected in a grid");
+    }
+
+    /**
+     * Allows to run a specific algorithm on a grapht
+     *
+     * @param algorithm algorithm you want to run
+     * @param <P>       type of result
+     * @return returns result of an execution of the algorithm
+     */
+    @Override
+    public <P> P runAlgorithm(GraphAlgorithmInterface<P, GridPoint, Integer> algorithm) {
+        return algorithm.run(this);
+    }
+
+    /**
+     * Runs a specific algorithm in an executor, cancelling of a returned future stops the algorithm.
+     * Algorithm runs on a copy of a grid, so grid can be changed while the algorithm runs
+     *
+     * @param algorithm algorithm you want to run
+     * @param executor  executor in which algorithm runs
+     * @param <P>       type of result
+     * @return future result of an execution of the algorithm
+     */
+    @Override
+    public <P> CompletableFuture<P> runAlgorithmAsync(GraphAlgorithmInterface<P, GridPoint, Integer> algorithm, Executor executor) {
+        return runAlgorithmAsync(algorithm, executor, new AlgorithmBudget());
+    }
+
+    /**
+     * Runs a specific algorithm on a copy of a grid in an executor with limits of time and visited vertexes,
+     * future of a run that exceeds a limit completes with AlgorithmAbortedException
+     *
+     * @param algorithm algorithm you want to run
+     * @param executor  executor in which algorithm runs
+     * @param budget    limits of a run, used by one run only
+     * @param <P>       type of result
+     * @return future result of an execution of the algorithm
+     */
+    @Override
+    public <P> CompletableFuture<P> runAlgorithmAsync(GraphAlgorithmInterface<P, GridPoint, Integer> algorithm, Executor executor, AlgorithmBudget budget) {
+        return budget.runAsync(copy(), algorithm, executor);
+    }
+
+    /**
+     * Checks if graph is connected
+     *
+     * @return true if graph is connected and false otherwise
+     */
+    @Override
+    public boolean isGraphConnected() {
+        return runAlgorithm(new ConnectionCheckGraphAlgorithm<>());
+    }
+
+    /**
+     * Counts the shortest distance between two vertexes (considers each vertex of the same length)
+     *
+     * @param firstVertex  id of a first vertex
+     * @param secondVertex id of a second vertex
+     * @return if there is a path from firstVertex to secondVertex returns distance between them
+     * otherwise 2147483647 (2^31 - 1)
+     * @throws NoSuchVertexException
+     */
+    @Override
+    public Integer calculateShortestDistanceBetweenVertexes(GridPoint firstVertex, GridPoint secondVertex) throws NoSuchVertexException {
+        getExistingVertexIndex(firstVertex);
+        getExistingVertexIndex(secondVertex);
+        return runAlgorithm(new BidirectionalBFSGraphAlgorithm<>(firstVertex, secondVertex));
+    }
+
+    /**
+     * Counts the shortest distances between many pairs of vertexes (considers each vertex of the same length).
+     * Graph is searched once for each distinct first vertex, searches run in parallel
+     *
+     * @param pairs pairs of a first and a second vertex
+     * @return stream of distances in order in which searches finish, distance is 2147483647 (2^31 - 1) if there is no path
+     * @throws NoSuchVertexException if a vertex of a pair doesn't exist
+     */
+    @Override
+    public Stream<VertexPairDistance<GridPoint>> calculateShortestDistancesBetweenVertexes(List<Pair<GridPoint, GridPoint>> pairs) throws NoSuchVertexException {
+        for (Pair<GridPoint, GridPoint> pair : pairs) {
+            getExistingVertexIndex(pair.getKey());
+            getExistingVertexIndex(pair.getValue());
+        }
+        return runAlgorithm(new ShortestDistancesBatchGraphAlgorithm<>(pairs));
+    }
+
+    /**
+     * @return number of vertexes in a graph
+     */
+    @Override
+    public int getVertexNumber() {
+        return rows * cols - removedCellsNumber;
+    }
+
+    /**
+     * @return number of edges in a graph (each edge is counted in both directions)
+     */
+    @Override
+    public int getEdgesNumber() {
+        return (int) (2 * edgesNumber);
+    }
+
+    /**
+     * @param vertexId id of an vertex to check
+     * @return true if vertex present and false otherwise
+     */
+    @Override
+    public boolean containsVertex(GridPoint vertexId) {
+        return getVertexIndex(vertexId) != -1;
+    }
+
+    /**
+     * @param firstVertex  id of vertex where edge starts
+     * @param secondVertex id of vertex where edge ends
+     * @return true if edge is present and false if edge is not present (additionally false if one of vertexes is not present)
+     */
+    @Override
+    public boolean containsEdge(GridPoint firstVertex, GridPoint secondVertex) {
+        int from = getVertexIndex(firstVertex);
+        int to = getVertexIndex(secondVertex);
+        return from != -1 && to != -1 && isEdgePresent(from, to);
+    }
+
+    /**
+     * Sets specified type for specified point, points that are not cells of a grid are ignored
+     *
+     * @param point point to be added
+     * @param type  type of point to be added
+     */
+    @Override
+    public void updatePointType(GridPoint point, PointType type) {
+        int index = getVertexIndex(point);
+        if (index != -1) pointTypes.set(index, type);
+    }
+
+    /**
+     * @param point - point to check
+     * @return true if type of point is FREE, otherwise false
+     */
+    @Override
+    public boolean isFreePoint(GridPoint point) {
+        int index = getVertexIndex(point);
+        return index == -1 || pointTypes.get(index) == PointType.FREE;
+    }
+
+    /**
+     * @param type - type of points to retrieve
+     * @return read-only set of points with specified type
+     */
+    @Override
+    public Set<GridPoint> getPointsOfType(PointType type) {
+        return pointTypes.getPoints(type);
+    }
+
+    /**
+     * @param point point to check
+     * @return true if point is of type is not FREE
+     */
+    @Override
+    public boolean isPointSelected(GridPoint point) {
+        return !isFreePoint(point);
+    }
+
+    /**
+     * Sets FREE type to all points
+     */
+    @Override
+    public void resetSelectedPoints() {
+        pointTypes.clear();
+    }
+}
@@ -0,0 +1,245 @@
+package com.company.Graphs.Implementations;
+
+import com.company.Graphs.Errors.EdgeAlreadyExistsException;
+import com.company.Graphs.Errors.NoSuchEdgeException;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.ReverseIndexedGraphInterface;
+
+import java.util.*;
+
+/**
+ * Directed or undirected graph with int weights of edges. Edges keep only weights in int arrays of AbstractGraph
+ * and no values, so value of an edge is its weight and edges are stored without boxing.
+ * Edges added without value have weight 1.
+ * Directed graph also keeps predecessors of each vertex with their indexes and weights of edges as DirectedGraph does,
+ * undirected graph walks edges backwards over the same arrays as forwards
+ *
+ * @param <T> Type of vertexId
+ */
+public class IntWeightedGraph<T> extends AbstractGraph<T, Integer> implements ReverseIndexedGraphInterface<T, Integer> {
+    private final boolean directed;
+    private final Map<T, List<T>> predecessorsMap = new HashMap<>();
+    private final List<Edges> predecessorsByIndex = new ArrayList<>();
+
+    /**
+     * Creates undirected graph
+     */
+    public IntWeightedGraph() {
+        this(false);
+    }
+
+    /**
+     * @param directed true to create directed graph, false to create undirected graph
+     */
+    public IntWeightedGraph(boolean directed) {
+        this.directed = directed;
+    }
+
+    /**
+     * @return true if graph is directed
+     */
+    public boolean isDirected() {
+        return directed;
+    }
+
+    /**
+     * Adds a new vertex with a specific id and value
+     *
+     * @param vertexId id of a new vertex
+     * @param value    value of a new vertex
+     * @throws VertexAlreadyExistsException if a vertex with a specified id already exists
+     */
+    @Override
+    public void addVertex(T vertexId, Integer value) throws VertexAlreadyExistsException {
+        super.addVertex(vertexId, value);
+        if (!directed) return;
+        predecessorsMap.put(vertexId, new AdjacencyList<>());
+        predecessorsByIndex.add(new Edges());
+    }
+
+    /**
+     * Removes a vertex with a specific id and value.
+     * In addition, it deletes all edges to and from a vertex, only lists of its neighbours are changed
+     *
+     * @param vertexId id of a vertex to delete
+     * @throws NoSuchVertexException if a vertex with a specified id doesn't exist
+     */
+    @Override
+    public void removeVertex(T vertexId) throws NoSuchVertexException {
+        if (!connectionsMap.containsKey(vertexId))
+            throw new NoSuchVertexException("There is no such vertex " + vertexId);
+        int index = dictionary.getIndex(vertexId);
+        List<T> successors = connectionsMap.get(vertexId);
+        for (int position = 0; position < successors.size(); ++position) {
+            T successor = successors.get(position);
+            removeEdgeStatistics(vertexId, successor, getEdgeWeightByIndex(index, position));
+            if (successor.equals(vertexId)) continue;
+            if (directed) removePredecessor(successor, vertexId);
+            else removeFromList(successor, vertexId);
+        }
+        if (!directed) {
+            removeVertexEntry(vertexId);
+            return;
+        }
+        for (T predecessor : predecessorsMap.remove(vertexId)) {
+            if (predecessor.equals(vertexId)) continue;
+            removeEdgeStatistics(predecessor, vertexId, removeFromList(predecessor, vertexId));
+        }
+
+        int last = predecessorsByIndex.size() - 1;
+        T moved = dictionary.get(last);
+        removeVertexEntry(vertexId);
+        predecessorsByIndex.set(index, predecessorsByIndex.get(last));
+        predecessorsByIndex.remove(last);
+        if (index == last) return;
+        for (T successor : connectionsMap.get(moved)) {
+            int successorIndex = dictionary.getIndex(successor);
+            predecessorsByIndex.get(successorIndex).setNeighbour(predecessorsMap.get(successor).indexOf(moved), index);
+        }
+    }
+
+    @Override
+    protected List<T> getHolders(T vertexId) {
+        return directed ? predecessorsMap.get(vertexId) : connectionsMap.get(vertexId);
+    }
+
+    /**
+     * Adds an edge with weight 1 between two vertexes
+     *
+     * @param firstVertex  first vertex
+     * @param secondVertex second vertex
+     * @throws NoSuchVertexException      if firstVertex or secondVertex doesn't exist
+     * @throws EdgeAlreadyExistsException if an edge between firstVertex and secondVertex exists
+     */
+    @Override
+    public void addEdge(T firstVertex, T secondVertex) throws NoSuchVertexException, EdgeAlreadyExistsException {
+        addEdge(firstVertex, secondVertex, null);
+    }
+
+    /**
+     * Adds an edge between two vertexes with specified weight
+     *
+     * @param firstVertex  first vertex
+     * @param secondVertex second vertex
+     * @param value        weight of an edge, null for weight 1
+     * @throws NoSuchVertexException      if firstVertex or secondVertex doesn't exist
+     * @throws EdgeAlreadyExistsException if an edge between firstVertex and secondVertex exists
+     */
+    @Override
+    public void addEdge(T firstVertex, T secondVertex, Integer value) throws NoSuchVertexException, EdgeAlreadyExistsException {
+        if (!connectionsMap.containsKey(firstVertex))
+            throw new NoSuchVertexException("There is no such vertex " + firstVertex);
+        if (!connectionsMap.containsKey(secondVertex))
+            throw new NoSuchVertexException("There is no such vertex " + secondVertex);
+        if (connectionsMap.get(firstVertex).contains(secondVertex))
+            throw new EdgeAlreadyExistsException("Edge between " + firstVertex + " and " + secondVertex + " already exists");
+        int weight = value == null ? 1 : value;
+        addToList(firstVertex, secondVertex, null, weight);
+        if (directed) {
+            predecessorsByIndex.get(dictionary.getIndex(secondVertex)).add(dictionary.getIndex(firstVertex), weight, null);
+            predecessorsMap.get(secondVertex).add(firstVertex);
+        } else if (!firstVertex.equals(secondVertex)) addToList(secondVertex, firstVertex, null, weight);
+        edgesNumber += directed || firstVertex.equals(secondVertex) ? 1 : 2;
+        totalWeight += weight;
+    }
+
+    /**
+     * Removes an edge between two vertexes
+     *
+     * @param firstVertex  first vertex
+     * @param secondVertex second vertex
+     * @throws NoSuchVertexException if firstVertex or secondVertex doesn't exist
+     * @throws NoSuchEdgeException   if an edge between firstVertex and secondVertex doesn't exists
+     */
+    @Override
+    public void removeEdge(T firstVertex, T secondVertex) throws NoSuchVertexException, NoSuchEdgeException {
+        if (!connectionsMap.containsKey(firstVertex))
+            throw new NoSuchVertexException("There is no such vertex " + firstVertex);
+        if (!connectionsMap.containsKey(secondVertex))
+            throw new NoSuchVertexException("There is no such vertex " + secondVertex);
+        if (!connectionsMap.get(firstVertex).contains(secondVertex))
+            throw new NoSuchEdgeException("There is no such edge between " + firstVertex + " and " + secondVertex);
+        int weight = removeFromList(firstVertex, secondVertex);
+        if (directed) removePredecessor(secondVertex, firstVertex);
+        else if (!firstVertex.equals(secondVertex)) removeFromList(secondVertex, firstVertex);
+        removeEdgeStatistics(firstVertex, secondVertex, weight);
+    }
+
+    private void removeEdgeStatistics(T firstVertex, T secondVertex, int weight) {
+        edgesNumber -= directed || firstVertex.equals(secondVertex) ? 1 : 2;
+        totalWeight -= weight;
+    }
+
+    /**
+     * Removes a predecessor from a list of predecessors of a vertex, the last one is moved to its position
+     */
+    private void removePredecessor(T vertexId, T predecessor) {
+        List<T> predecessors = predecessorsMap.get(vertexId);
+        int position = predecessors.indexOf(predecessor);
+        predecessorsByIndex.get(dictionary.getIndex(vertexId)).remove(position);
+        predecessors.remove(position);
+    }
+
+    /**
+     * @param vertexId id of a vertex
+     * @return list of vertexes connected by an edge with a specified vertex
+     * @throws NoSuchVertexException if a specified vertex doesn't exist
+     */
+    @Override
+    public List<T> getAllDirectlyConnectedVertexes(T vertexId) throws NoSuchVertexException {
+        if (!connectionsMap.containsKey(vertexId))
+            throw new NoSuchVertexException("There is no such vertex " + vertexId);
+        return connectionsMap.get(vertexId);
+    }
+
+    /**
+     * @param vertexId id of a vertex
+     * @return number of edges that end in a vertex
+     * @throws NoSuchVertexException if a specified vertex doesn't exist
+     */
+    @Override
+    public int getInDegree(T vertexId) throws NoSuchVertexException {
+        if (!directed) return getOutDegree(vertexId);
+        if (!predecessorsMap.containsKey(vertexId))
+            throw new NoSuchVertexException("There is no such vertex " + vertexId);
+        return predecessorsMap.get(vertexId).size();
+    }
+
+    /**
+     * @param firstVertex  id of a first vertex
+     * @param secondVertex id of a second vertex
+     * @return weight of an edge between a specified vertexes or null if there is no such edge
+     * @throws NoSuchVertexException if a vertex with a specified id doesn't exist
+     */
+    @Override
+    public Integer getEdgeValue(T firstVertex, T secondVertex) throws NoSuchVertexException {
+        int index = dictionary.getIndex(firstVertex);
+        if (index == -1)
+            throw new NoSuchVertexException("There is no such vertex " + firstVertex);
+        if (!connectionsMap.containsKey(secondVertex))
+            throw new NoSuchVertexException("There is no such vertex " + secondVertex);
+        int position = connectionsByIndex.get(index).indexOf(secondVertex);
+        return position == -1 ? null : getEdgeWeightByIndex(index, position);
+    }
+
+    @Override
+    public Integer getEdgeValueByIndex(int index, int position) {
+        return getEdgeWeightByIndex(index, position);
+    }
+
+    @Override
+    public int getInDegreeByIndex(int index) {
+        return directed ? predecessorsByIndex.get(index).size() : getDegreeByIndex(index);
+    }
+
+    @Override
+    public int getPredecessorByIndex(int index, int position) {
+        return directed ? predecessorsByIndex.get(index).getNeighbour(position) : getNeighbourByIndex(index, position);
+    }
+
+    @Override
+    public int getInEdgeWeightByIndex(int index, int position) {
+        return directed ? predecessorsByIndex.get(index).getWeight(position) : getEdgeWeightByIndex(index, position);
+    }
+}
@@ -1,18 +1,69 @@
 package com.company.Graphs.Implementations;
 
+import com.company.Graphs.Algorithms.DynamicConnectivity;
 import com.company.Graphs.Errors.EdgeAlreadyExistsException;
 import com.company.Graphs.Errors.NoSuchEdgeException;
 import com.company.Graphs.Errors.NoSuchVertexException;
-import javafx.util.Pair;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.IndexedGraphInterface;
+import com.company.Graphs.ReverseIndexedGraphInterface;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
+ * Keeps connected components of a graph in a dynamic connectivity structure, which is updated on every addition
+ * and removal of vertexes and edges, so connectivity queries take O(log n) and need no rebuilds
+ *
  * @param <T> Type of vertexId
  * @param <E> Type of values in vertex
  */
-public class UnDirectedGraph<T, E> extends AbstractGraph<T, E> {
+public class UnDirectedGraph<T, E> extends AbstractGraph<T, E> implements ReverseIndexedGraphInterface<T, E> {
+    private final DynamicConnectivity components = new DynamicConnectivity();
+    private final List<Integer> componentIds = new ArrayList<>();
+
+    /**
+     * Adds a new vertex with a specific id and value
+     *
+     * @param vertexId id of a new vertex
+     * @param value    value of a new vertex
+     * @throws VertexAlreadyExistsException if a vertex with a specified id already exists
+     */
+    @Override
+    public void addVertex(T vertexId, E value) throws VertexAlreadyExistsException {
+        super.addVertex(vertexId, value);
+        componentIds.add(components.addVertex());
+    }
+
+    /**
+     * Removes a vertex with a specific id and value.
+     * In addition, it deletes all edges to and from a vertex, only lists of its neighbours are changed
+     *
+     * @param vertexId id of a vertex to delete
+     * @throws NoSuchVertexException if a vertex with a specified id doesn't exist
+     */
+    @Override
+    public void removeVertex(T vertexId) throws NoSuchVertexException {
+        if (!connectionsMap.containsKey(vertexId))
+            throw new NoSuchVertexException("There is no such vertex " + vertexId);
+        int index = dictionary.getIndex(vertexId);
+        List<T> neighbours = connectionsMap.get(vertexId);
+        for (int position = 0; position < neighbours.size(); ++position) {
+            T neighbour = neighbours.get(position);
+            removeEdgeStatistics(vertexId, neighbour, getEdgeWeightByIndex(index, position));
+            if (!neighbour.equals(vertexId)) removeFromList(neighbour, vertexId);
+        }
+        removeVertexEntry(vertexId);
+        components.removeVertex(componentIds.get(index));
+        Integer last = componentIds.remove(componentIds.size() - 1);
+        if (index != componentIds.size()) componentIds.set(index, last);
+    }
+
+    @Override
+    protected List<T> getHolders(T vertexId) {
+        return connectionsMap.get(vertexId);
+    }
+
     /**
      * Adds an edge between two vertexes
      *
@@ -43,11 +94,14 @@ public class UnDirectedGraph<T, E> extends AbstractGraph<T, E> {
             throw new NoSuchVertexException("There is no such vertex " + secondVertex);
         if (connectionsMap.get(firstVertex).contains(secondVertex))
             throw new EdgeAlreadyExistsException("Edge between " + firstVertex + " and " + secondVertex + " already exists");
-        connectionsMap.get(firstVertex).add(secondVertex);
-        connectionsMap.get(secondVertex).add(firstVertex);
-        edgesValues.put(new Pair<>(firstVertex, secondVertex), value);
-        edgesValues.put(new Pair<>(secondVertex, firstVertex), value);
+        int weight = IndexedGraphInterface.weightOf(value);
+        addToList(firstVertex, secondVertex, value, weight);
+        if (!firstVertex.equals(secondVertex)) addToList(secondVertex, firstVertex, value, weight);
+        edgesNumber += firstVertex.equals(secondVertex) ? 1 : 2;
+        totalWeight += weight;
+        components.addEdge(getComponentId(firstVertex), getComponentId(secondVertex));
     }
+
     /**
      * Removes an edge between two vertexes
      *
@@ -64,10 +118,9 @@ public class UnDirectedGraph<T, E> extends AbstractGraph<T, E> {
             throw new NoSuchVertexException("There is no such vertex " + secondVertex);
         if (!connectionsMap.get(firstVertex).contains(secondVertex))
             throw new NoSuchEdgeException("There is no such edge between " + firstVertex + " and " + secondVertex);
-        connectionsMap.get(firstVertex).remove(secondVertex);
-        connectionsMap.get(secondVertex).remove(firstVertex);
-        edgesValues.remove(new Pair<>(firstVertex, secondVertex));
-        edgesValues.remove(new Pair<>(secondVertex, firstVertex));
+        removeEdgeStatistics(firstVertex, secondVertex, removeFromList(firstVertex, secondVertex));
+        if (!firstVertex.equals(secondVertex)) removeFromList(secondVertex, firstVertex);
+        components.removeEdge(getComponentId(firstVertex), getComponentId(secondVertex));
     }
 
     /**
@@ -100,5 +153,70 @@ public class UnDirectedGraph<T, E> extends AbstractGraph<T, E> {
         }
     }
 
+    private void removeEdgeStatistics(T firstVertex, T secondVertex, int weight) {
+        edgesNumber -= firstVertex.equals(secondVertex) ? 1 : 2;
+        totalWeight -= weight;
+    }
+
+    private int getComponentId(T vertexId) {
+        return componentIds.get(dictionary.getIndex(vertexId));
+    }
+
+    /**
+     * Checks if graph is connected
+     *
+     * @return true if graph is connected and false otherwise
+     */
+    @Override
+    public boolean isGraphConnected() {
+        return components.getComponentsNumber() <= 1;
+    }
+
+    /**
+     * @return number of connected components of a graph
+     */
+    public int getComponentsNumber() {
+        return components.getComponentsNumber();
+    }
+
+    /**
+     * @param firstVertex  id of a first vertex
+     * @param secondVertex id of a second vertex
+     * @return true if there is a path between vertexes, otherwise false
+     * @throws NoSuchVertexException if firstVertex or secondVertex doesn't exist
+     */
+    public boolean sameComponent(T firstVertex, T secondVertex) throws NoSuchVertexException {
+        int first = dictionary.getIndex(firstVertex);
+        if (first == -1)
+            throw new NoSuchVertexException("There is no such vertex " + firstVertex);
+        int second = dictionary.getIndex(secondVertex);
+        if (second == -1)
+            throw new NoSuchVertexException("There is no such vertex " + secondVertex);
+        return components.isConnected(componentIds.get(first), componentIds.get(second));
+    }
+
+    /**
+     * @param vertexId id of a vertex
+     * @return number of edges of a vertex
+     * @throws NoSuchVertexException if a specified vertex doesn't exist
+     */
+    @Override
+    public int getInDegree(T vertexId) throws NoSuchVertexException {
+        return getOutDegree(vertexId);
+    }
+
+    @Override
+    public int getInDegreeByIndex(int index) {
+        return getDegreeByIndex(index);
+    }
 
+    @Override
+    public int getPredecessorByIndex(int index, int position) {
+        return getNeighbourByIndex(index, position);
+    }
+
+    @Override
+    public int getInEdgeWeightByIndex(int index, int position) {
+        return getEdgeWeightByIndex(index, position);
+    }
 }
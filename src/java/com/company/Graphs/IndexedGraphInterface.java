@@ -0,0 +1,84 @@
+package com.company.Graphs;
+
+import com.company.Graphs.Implementations.CsrGraph;
+
+/**
+ * Graph that additionally exposes its vertexes and edges through dense int indexes,
+ * so algorithms can keep their state in primitive arrays instead of maps keyed by vertex ids
+ *
+ * @param <T> Type of vertexId
+ * @param <E> Type of values in vertex
+ */
+public interface IndexedGraphInterface<T, E> extends GraphInterface<T, E> {
+    /**
+     * Returns graph itself if it is already indexed, otherwise builds an indexed snapshot of it
+     *
+     * @param graph graph to index
+     * @return indexed view of a graph
+     */
+    @SuppressWarnings("unchecked")
+    static <T, E> IndexedGraphInterface<T, E> of(GraphInterface<T, E> graph) {
+        if (graph instanceof IndexedGraphInterface) return (IndexedGraphInterface<T, E>) graph;
+        return CsrGraph.of(graph);
+    }
+
+    /**
+     * @param value value of an edge
+     * @return integer weight of an edge with specified value
+     */
+    static int weightOf(Object value) {
+        return value instanceof Number ? ((Number) value).intValue() : 1;
+    }
+
+    /**
+     * @return upper bound (exclusive) of all vertex indexes in a graph
+     */
+    int getVertexIndexBound();
+
+    /**
+     * @param vertexId id of a vertex
+     * @return index of a vertex or -1 if vertex doesn't exist
+     */
+    int getVertexIndex(T vertexId);
+
+    /**
+     * @param index index of a vertex
+     * @return id of a vertex with specified index or null if index is not used by any vertex
+     */
+    T getVertexByIndex(int index);
+
+    /**
+     * @param index index of a vertex
+     * @return number of edges that start in a vertex
+     */
+    int getDegreeByIndex(int index);
+
+    /**
+     * @param index    index of a vertex
+     * @param position position of an edge in the list of edges of a vertex (from 0 to degree - 1)
+     * @return index of a vertex where edge ends
+     */
+    int getNeighbourByIndex(int index, int position);
+
+    /**
+     * @param index    index of a vertex
+     * @param position position of an edge in the list of edges of a vertex (from 0 to degree - 1)
+     * @return value of an edge
+     */
+    E getEdgeValueByIndex(int index, int position);
+
+    /**
+     * Edges with null or non numeric values are considered to have weight 1
+     *
+     * @param index    index of a vertex
+     * @param position position of an edge in the list of edges of a vertex (from 0 to degree - 1)
+     * @return weight of an edge
+     */
+    int getEdgeWeightByIndex(int index, int position);
+
+    /**
+     * @param index index of a vertex
+     * @return type of a vertex
+     */
+    PointType getPointTypeByIndex(int index);
+}
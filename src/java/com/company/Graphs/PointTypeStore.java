@@ -0,0 +1,165 @@
+package com.company.Graphs;
+
+import com.company.Graphs.GraphInterface.PointType;
+
+import java.util.*;
+
+/**
+ * Class that stores types of points by dense indexes of vertexes of an indexed graph:
+ * type of each vertex is kept in a byte array, so it is checked with one array read,
+ * indexes of vertexes of each selected type are kept in a bitset, so they can be listed.
+ * Vertexes that were never updated are FREE.
+ * Sets returned by getPoints are read-only views that reflect later changes
+ *
+ * @param <T> Type of vertexId
+ */
+public class PointTypeStore<T> {
+    private static final PointType[] TYPES = PointType.values();
+    private final IndexedGraphInterface<T, ?> graph;
+    private final BitSet[] indexes = new BitSet[TYPES.length];
+    private final List<Set<T>> views = new ArrayList<>(TYPES.length);
+    private byte[] codes = new byte[0];
+    private int selectedNumber = 0;
+
+    /**
+     * @param graph graph which indexes of vertexes are used
+     */
+    public PointTypeStore(IndexedGraphInterface<T, ?> graph) {
+        this.graph = graph;
+        for (PointType type : TYPES) {
+            indexes[type.ordinal()] = new BitSet();
+            views.add(new PointsView(type));
+        }
+    }
+
+    private static byte toCode(PointType type) {
+        return type == PointType.FREE ? 0 : (byte) (type.ordinal() + 1);
+    }
+
+    /**
+     * @param index index of a vertex
+     * @return type of a vertex
+     */
+    public PointType get(int index) {
+        if (index >= codes.length || codes[index] == 0) return PointType.FREE;
+        return TYPES[codes[index] - 1];
+    }
+
+    /**
+     * @param index index of a vertex
+     * @param type  new type of a vertex
+     */
+    public void set(int index, PointType type) {
+        PointType previous = get(index);
+        if (previous == type) return;
+        if (index >= codes.length) codes = Arrays.copyOf(codes, Math.max(index + 1, 2 * codes.length));
+        codes[index] = toCode(type);
+        if (previous != PointType.FREE) {
+            indexes[previous.ordinal()].clear(index);
+            --selectedNumber;
+        }
+        if (type != PointType.FREE) {
+            indexes[type.ordinal()].set(index);
+            ++selectedNumber;
+        }
+    }
+
+    /**
+     * Moves type of a vertex to another index, vertex at the old index becomes FREE
+     *
+     * @param from old index of a vertex
+     * @param to   new index of a vertex
+     */
+    public void move(int from, int to) {
+        set(to, get(from));
+        set(from, PointType.FREE);
+    }
+
+    /**
+     * Replaces types of all vertexes with types from another store of a graph with the same indexes
+     *
+     * @param other store to copy types from
+     */
+    public void copyFrom(PointTypeStore<T> other) {
+        codes = other.codes.clone();
+        for (int type = 0; type < TYPES.length; ++type) {
+            indexes[type].clear();
+            indexes[type].or(other.indexes[type]);
+        }
+        selectedNumber = other.selectedNumber;
+    }
+
+    /**
+     * Sets FREE type to all vertexes
+     */
+    public void clear() {
+        codes = new byte[0];
+        for (BitSet bits : indexes) {
+            bits.clear();
+        }
+        selectedNumber = 0;
+    }
+
+    /**
+     * @param type type of points to retrieve
+     * @return read-only set of vertexes of a specified type
+     */
+    public Set<T> getPoints(PointType type) {
+        return views.get(type.ordinal());
+    }
+
+    private class PointsView extends AbstractSet<T> {
+        private final PointType type;
+
+        private PointsView(PointType type) {
+            this.type = type;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean contains(Object o) {
+            int index;
+            try {
+                index = graph.getVertexIndex((T) o);
+            } catch (ClassCastException ignored) {
+                return false;
+            }
+            return index != -1 && get(index) == type;
+        }
+
+        @Override
+        public int size() {
+            if (type == PointType.FREE) return graph.getVertexNumber() - selectedNumber;
+            return indexes[type.ordinal()].cardinality();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                private int next = find(0);
+
+                private int find(int from) {
+                    if (type != PointType.FREE) return indexes[type.ordinal()].nextSetBit(from);
+                    int bound = graph.getVertexIndexBound();
+                    for (int index = from; index < bound; ++index) {
+                        if (get(index) == PointType.FREE && graph.getVertexByIndex(index) != null) return index;
+                    }
+                    return -1;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next != -1;
+                }
+
+                @Override
+                public T next() {
+                    if (next == -1) throw new NoSuchElementException();
+                    T result = graph.getVertexByIndex(next);
+                    next = find(next + 1);
+                    return result;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.company.Graphs;
+
+import com.company.Graphs.Implementations.CsrGraph;
+
+/**
+ * Indexed graph that additionally allows walking edges backwards: from a vertex to vertexes that have edges to it
+ *
+ * @param <T> Type of vertexId
+ * @param <E> Type of values in vertex
+ */
+public interface ReverseIndexedGraphInterface<T, E> extends IndexedGraphInterface<T, E> {
+    /**
+     * Returns graph itself if it already allows walking edges backwards, otherwise builds a snapshot of it
+     *
+     * @param graph graph to index
+     * @return view of a graph that allows walking edges backwards
+     */
+    @SuppressWarnings("unchecked")
+    static <T, E> ReverseIndexedGraphInterface<T, E> of(GraphInterface<T, E> graph) {
+        if (graph instanceof ReverseIndexedGraphInterface) return (ReverseIndexedGraphInterface<T, E>) graph;
+        return CsrGraph.of(graph);
+    }
+
+    /**
+     * @param index index of a vertex
+     * @return number of edges that end in a vertex
+     */
+    int getInDegreeByIndex(int index);
+
+    /**
+     * @param index    index of a vertex
+     * @param position position of an edge in the list of edges that end in a vertex (from 0 to in degree - 1)
+     * @return index of a vertex where edge starts
+     */
+    int getPredecessorByIndex(int index, int position);
+
+    /**
+     * Edges with null or non numeric values are considered to have weight 1
+     *
+     * @param index    index of a vertex
+     * @param position position of an edge in the list of edges that end in a vertex (from 0 to in degree - 1)
+     * @return weight of an edge
+     */
+    int getInEdgeWeightByIndex(int index, int position);
+}
@@ -0,0 +1,81 @@
+package com.company.Graphs;
+
+import java.util.*;
+
+/**
+ * Dictionary that maps ids of vertexes to dense int indexes from 0 to size - 1.
+ * When a vertex is removed the last vertex is moved to the freed index, so indexes stay dense
+ *
+ * @param <T> Type of vertexId
+ */
+public class VertexIdDictionary<T> {
+    private final Map<T, Integer> indexes = new HashMap<>();
+    private final List<T> vertexes = new ArrayList<>();
+
+    /**
+     * @param vertexId id of a vertex to add
+     * @return index assigned to a vertex
+     */
+    public int add(T vertexId) {
+        Integer index = indexes.get(vertexId);
+        if (index != null) return index;
+        indexes.put(vertexId, vertexes.size());
+        vertexes.add(vertexId);
+        return vertexes.size() - 1;
+    }
+
+    /**
+     * Removes a vertex and moves the last vertex to its index
+     *
+     * @param vertexId id of a vertex to remove
+     * @return index that vertex had or -1 if vertex is not present
+     */
+    public int remove(T vertexId) {
+        Integer index = indexes.remove(vertexId);
+        if (index == null) return -1;
+        T last = vertexes.remove(vertexes.size() - 1);
+        if (index != vertexes.size()) {
+            vertexes.set(index, last);
+            indexes.put(last, index);
+        }
+        return index;
+    }
+
+    /**
+     * @param vertexId id of a vertex
+     * @return index of a vertex or -1 if vertex is not present
+     */
+    public int getIndex(T vertexId) {
+        return indexes.getOrDefault(vertexId, -1);
+    }
+
+    /**
+     * @param index index of a vertex
+     * @return id of a vertex with specified index
+     */
+    public T get(int index) {
+        return vertexes.get(index);
+    }
+
+    /**
+     * @return number of vertexes in a dictionary
+     */
+    public int size() {
+        return vertexes.size();
+    }
+
+    /**
+     * @return read-only list of vertexes ordered by their indexes
+     */
+    public List<T> getVertexes() {
+        return Collections.unmodifiableList(vertexes);
+    }
+
+    /**
+     * Removes all vertexes
+     */
+    public void clear() {
+        indexes.clear();
+        vertexes.clear();
+    }
+}
@@ -0,0 +1,49 @@
+import com.company.Graphs.Algorithms.TraversAlgorithmsResult;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.AStarTraversingAlgorithm;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.BFSTraversingAlgorithm;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.GridHeuristics;
+import com.company.Graphs.GraphInterface.PointType;
+import com.company.Graphs.GridPoint;
+import com.company.Graphs.Implementations.ImplicitGridGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AStarTraversingAlgorithmTest {
+
+    @Test
+    public void runForCloseFinish_expandsFewerPointsThanBFS() {
+        ImplicitGridGraph graph = new ImplicitGridGraph(50, 50);
+        graph.updatePointType(new GridPoint(10, 10), PointType.SOURCE);
+        graph.updatePointType(new GridPoint(10, 15), PointType.FINISH);
+        Map<GridPoint, GridPoint> bfs = new BFSTraversingAlgorithm<GridPoint, Integer>().run(graph);
+        Map<GridPoint, GridPoint> result = new AStarTraversingAlgorithm<>(GridHeuristics.MANHATTAN).run(graph);
+        assertEquals(6, result.size());
+        assertTrue(result.size() < bfs.size());
+    }
+
+    @Test
+    public void runWithBlocks_findsShortestPath() {
+        ImplicitGridGraph graph = new ImplicitGridGraph(10, 10);
+        graph.updatePointType(new GridPoint(5, 0), PointType.SOURCE);
+        graph.updatePointType(new GridPoint(5, 9), PointType.FINISH);
+        for (int row = 1; row < 10; ++row) {
+            graph.updatePointType(new GridPoint(row, 4), PointType.BLOCKS);
+        }
+        List<AStarTraversingAlgorithm<GridPoint>> algorithms = Arrays.asList(
+                new AStarTraversingAlgorithm<>(GridHeuristics.MANHATTAN),
+                new AStarTraversingAlgorithm<>(GridHeuristics.OCTILE),
+                new AStarTraversingAlgorithm<>(GridHeuristics.EUCLIDEAN),
+                new AStarTraversingAlgorithm<>((vertex, finish) -> 0));
+        for (AStarTraversingAlgorithm<GridPoint> algorithm : algorithms) {
+            Map<GridPoint, GridPoint> result = algorithm.run(graph);
+            TraversAlgorithmsResult<GridPoint> restored = new TraversAlgorithmsResult<>(result, graph);
+            assertEquals(20, restored.getRestoredPaths().size());
+            assertFalse(result.containsKey(new GridPoint(5, 4)));
+        }
+    }
+}
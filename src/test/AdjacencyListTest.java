@@ -0,0 +1,57 @@
+import com.company.Graphs.Implementations.AdjacencyList;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdjacencyListTest {
+
+    @Test
+    public void removeFromSmallList_movesLastVertex() {
+        AdjacencyList<Integer> list = new AdjacencyList<>(List.of(1, 2, 3, 4));
+        assertTrue(list.remove((Integer) 2));
+        assertEquals(List.of(1, 4, 3), list);
+        assertFalse(list.remove((Integer) 2));
+    }
+
+    @Test
+    public void randomChanges_sameAsSet() {
+        Random random = new Random(11);
+        AdjacencyList<Integer> list = new AdjacencyList<>();
+        Set<Integer> expected = new HashSet<>();
+        for (int step = 0; step < 20000; ++step) {
+            int vertex = random.nextInt(step < 10000 ? 200 : 30);
+            if (expected.contains(vertex)) {
+                assertTrue(list.remove((Integer) vertex));
+                expected.remove(vertex);
+            } else {
+                assertFalse(list.contains(vertex));
+                list.add(vertex);
+                expected.add(vertex);
+            }
+            int probe = random.nextInt(200);
+            boolean contains = list.contains(probe);
+            assertEquals(expected.contains(probe), contains);
+            if (contains) assertEquals(probe, (int) list.get(list.indexOf(probe)));
+        }
+        assertEquals(expected, new HashSet<>(list));
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertFalse(list.contains(0));
+    }
+
+    @Test
+    public void removeWithIterator_visitsAllVertexes() {
+        List<Integer> list = new AdjacencyList<>();
+        for (int i = 0; i < 40; ++i) {
+            list.add(i);
+        }
+        list.removeIf(vertex -> vertex % 2 == 0);
+        assertEquals(20, list.size());
+        for (int i = 0; i < 40; ++i) {
+            boolean contains = list.contains(i);
+            assertEquals(i % 2 == 1, contains);
+        }
+    }
+}
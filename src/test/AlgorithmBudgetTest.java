@@ -0,0 +1,92 @@
+import com.company.Graphs.Algorithms.AlgorithmBudget;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.KruskalGraphAlgorithm;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.BFSTraversingAlgorithm;
+import com.company.Graphs.Errors.AlgorithmAbortedException;
+import com.company.Graphs.Errors.EdgeAlreadyExistsException;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.GraphInterface.PointType;
+import com.company.Graphs.Implementations.UnDirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AlgorithmBudgetTest {
+
+    private GraphInterface<Integer, Integer> createPath(int length) throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        GraphInterface<Integer, Integer> graph = new UnDirectedGraph<>();
+        for (int i = 0; i < length; ++i) {
+            graph.addVertex(i, 0);
+            if (i > 0) graph.addEdge(i - 1, i, 1);
+        }
+        graph.updatePointType(0, PointType.SOURCE);
+        graph.updatePointType(length - 1, PointType.FINISH);
+        return graph;
+    }
+
+    @Test
+    public void runAsync_sameResultAsRun() throws Exception {
+        GraphInterface<Integer, Integer> graph = createPath(100);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<Map<Integer, Integer>> future = graph.runAlgorithmAsync(new BFSTraversingAlgorithm<>(), executor);
+            assertEquals(graph.runAlgorithm(new BFSTraversingAlgorithm<>()), future.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void runAsyncOverVisitedLimit_completesWithAlgorithmAbortedException() throws Exception {
+        GraphInterface<Integer, Integer> graph = createPath(100);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AlgorithmBudget budget = new AlgorithmBudget(null, 10);
+            CompletableFuture<Map<Integer, Integer>> future = graph.runAlgorithmAsync(new BFSTraversingAlgorithm<>(), executor, budget);
+            ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+            assertTrue(exception.getCause() instanceof AlgorithmAbortedException);
+            assertEquals(11, budget.getVisited());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void runAfterCancel_throwsAlgorithmAbortedException() throws Exception {
+        GraphInterface<Integer, Integer> graph = createPath(10);
+        AlgorithmBudget budget = new AlgorithmBudget();
+        budget.cancel();
+        assertThrows(AlgorithmAbortedException.class, () -> budget.run(() -> graph.runAlgorithm(new KruskalGraphAlgorithm<>())));
+    }
+
+    @Test
+    public void runOverTimeLimit_throwsAlgorithmAbortedException() {
+        AlgorithmBudget budget = new AlgorithmBudget(Duration.ofNanos(1), Long.MAX_VALUE);
+        assertThrows(AlgorithmAbortedException.class, () -> budget.run(() -> {
+            long start = System.nanoTime();
+            while (System.nanoTime() == start) {
+                Thread.onSpinWait();
+            }
+            AlgorithmBudget.current().visit(0);
+            return null;
+        }));
+    }
+
+    @Test
+    public void visitOutsideRun_notLimited() {
+        AlgorithmBudget budget = AlgorithmBudget.current();
+        budget.visit(Long.MAX_VALUE);
+        budget.cancel();
+        budget.visit();
+        assertEquals(0, budget.getVisited());
+        assertFalse(budget.isCancelled());
+    }
+}
@@ -0,0 +1,56 @@
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.BidirectionalBFSGraphAlgorithm;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.ShortestDistanceFromVertexCalculationGraphAlgorithm;
+import com.company.Graphs.Errors.EdgeAlreadyExistsException;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.GridPoint;
+import com.company.Graphs.Implementations.DirectedGraph;
+import com.company.Graphs.Implementations.ImplicitGridGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BidirectionalBFSGraphAlgorithmTest {
+
+    private GraphInterface<Integer, Integer> createRandomGraph(int vertexes, int edges) throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        Random random = new Random(11);
+        GraphInterface<Integer, Integer> graph = new DirectedGraph<>();
+        for (int i = 0; i < vertexes; ++i) {
+            graph.addVertex(i, 0);
+        }
+        for (int i = 0; i < edges; ++i) {
+            int from = random.nextInt(vertexes);
+            int to = random.nextInt(vertexes);
+            if (from == to || graph.containsEdge(from, to)) continue;
+            graph.addEdge(from, to);
+        }
+        return graph;
+    }
+
+    @Test
+    public void runOnDirectedGraph_findsSameDistancesAsBFS() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        GraphInterface<Integer, Integer> graph = createRandomGraph(200, 500);
+        for (int from = 0; from < 200; from += 17) {
+            Map<Integer, Integer> expected = graph.runAlgorithm(new ShortestDistanceFromVertexCalculationGraphAlgorithm<>(from));
+            for (int to = 0; to < 200; ++to) {
+                assertEquals(expected.get(to), graph.runAlgorithm(new BidirectionalBFSGraphAlgorithm<>(from, to)));
+            }
+        }
+    }
+
+    @Test
+    public void calculateShortestDistanceBetweenVertexesOnGrid_returnsDistance() throws NoSuchVertexException {
+        ImplicitGridGraph graph = new ImplicitGridGraph(30, 40);
+        assertEquals(29 + 39, graph.calculateShortestDistanceBetweenVertexes(new GridPoint(0, 0), new GridPoint(29, 39)));
+    }
+
+    @Test
+    public void runForNonExistingVertex_returnsNull() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        GraphInterface<Integer, Integer> graph = createRandomGraph(10, 20);
+        assertNull(graph.runAlgorithm(new BidirectionalBFSGraphAlgorithm<>(0, 10)));
+    }
+}
@@ -0,0 +1,43 @@
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.BidirectionalDijkstraGraphAlgorithm;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.DijkstraTraversingAlgorithm;
+import com.company.Graphs.Errors.EdgeAlreadyExistsException;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.GraphInterface.PointType;
+import com.company.Graphs.Implementations.DirectedGraph;
+import com.company.Graphs.Implementations.UnDirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BidirectionalDijkstraGraphAlgorithmTest {
+
+    private void checkDistances(GraphInterface<Integer, Integer> graph, int vertexes) throws NoSuchVertexException {
+        for (int from = 0; from < vertexes; from += 13) {
+            graph.resetSelectedPoints();
+            graph.updatePointType(from, PointType.SOURCE);
+            Map<Integer, Integer> parents = new DijkstraTraversingAlgorithm<Integer>().run(graph);
+            for (int to = 0; to < vertexes; ++to) {
+                assertEquals(GraphTestUtils.getPathLength(graph, parents, to), (long) graph.runAlgorithm(new BidirectionalDijkstraGraphAlgorithm<>(from, to)));
+            }
+        }
+    }
+
+    @Test
+    public void runOnDirectedGraph_findsSameDistancesAsDijkstra() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        GraphInterface<Integer, Integer> graph = new DirectedGraph<>();
+        GraphTestUtils.addRandomEdges(graph, 13, 150, 600, 19);
+        checkDistances(graph, 150);
+    }
+
+    @Test
+    public void runOnFrozenUnDirectedGraph_findsSameDistancesAsDijkstra() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        UnDirectedGraph<Integer, Integer> graph = new UnDirectedGraph<>();
+        GraphTestUtils.addRandomEdges(graph, 13, 150, 300, 19);
+        checkDistances(graph, 150);
+        checkDistances(graph.freeze(), 150);
+    }
+}
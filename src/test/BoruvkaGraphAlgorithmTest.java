@@ -0,0 +1,55 @@
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.BoruvkaGraphAlgorithm;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.KruskalGraphAlgorithm;
+import com.company.Graphs.Errors.EdgeAlreadyExistsException;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.Implementations.UnDirectedGraph;
+import javafx.util.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoruvkaGraphAlgorithmTest {
+
+    @Test
+    public void runOnRandomGraphWithEqualWeights_sameWeightAsKruskal() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        Random random = new Random(7);
+        GraphInterface<Integer, Integer> graph = new UnDirectedGraph<>();
+        for (int i = 0; i < 3000; ++i) {
+            graph.addVertex(i, 0);
+        }
+        for (int i = 0; i < 9000; ++i) {
+            int from = random.nextInt(3000);
+            int to = random.nextInt(3000);
+            if (from == to || graph.containsEdge(from, to)) continue;
+            graph.addEdge(from, to, random.nextInt(4));
+        }
+        List<Pair<Integer, Integer>> boruvka = graph.runAlgorithm(new BoruvkaGraphAlgorithm<>(new ForkJoinPool(4)));
+        List<Pair<Integer, Integer>> kruskal = graph.runAlgorithm(new KruskalGraphAlgorithm<>());
+        assertEquals(kruskal.size(), boruvka.size());
+        assertEquals(GraphTestUtils.getWeight(graph, kruskal), GraphTestUtils.getWeight(graph, boruvka));
+    }
+
+    @Test
+    public void runWithDoubleValues_comparesValues() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        GraphInterface<Integer, Double> graph = new UnDirectedGraph<>();
+        for (int i = 0; i < 3; ++i) {
+            graph.addVertex(i, 0.0);
+        }
+        graph.addEdge(0, 1, 0.9);
+        graph.addEdge(1, 2, 0.2);
+        graph.addEdge(0, 2, 0.5);
+        List<Pair<Integer, Integer>> tree = graph.runAlgorithm(new BoruvkaGraphAlgorithm<>());
+        double weight = 0;
+        for (Pair<Integer, Integer> edge : tree) {
+            weight += graph.getEdgeValue(edge.getKey(), edge.getValue());
+        }
+        assertEquals(2, tree.size());
+        assertEquals(0.7, weight, 1e-9);
+    }
+}
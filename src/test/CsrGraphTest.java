@@ -0,0 +1,77 @@
+import com.company.Graphs.Algorithms.TraversingAlgorithms.BFSTraversingAlgorithm;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.DijkstraTraversingAlgorithm;
+import com.company.Graphs.Errors.EdgeAlreadyExistsException;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.GraphInterface.PointType;
+import com.company.Graphs.GridPoint;
+import com.company.Graphs.Implementations.AbstractGraph;
+import com.company.Graphs.Implementations.CsrGraph;
+import com.company.Graphs.Implementations.DirectedGraph;
+import com.company.Graphs.Implementations.GridGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsrGraphTest {
+
+    private AbstractGraph<Integer, Integer> createWeightedGraph() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        AbstractGraph<Integer, Integer> graph = new DirectedGraph<>();
+        for (int i = 0; i < 4; ++i) {
+            graph.addVertex(i, i * 10);
+        }
+        graph.addEdge(0, 1, 5);
+        graph.addEdge(0, 2, 1);
+        graph.addEdge(2, 1, 1);
+        graph.addEdge(1, 3, 2);
+        return graph;
+    }
+
+    @Test
+    public void freeze_keepsVertexesAndEdges() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        CsrGraph<Integer, Integer> csr = createWeightedGraph().freeze();
+        assertEquals(4, csr.getVertexNumber());
+        assertEquals(4, csr.getEdgesNumber());
+        assertTrue(csr.containsEdge(0, 1));
+        assertFalse(csr.containsEdge(1, 0));
+        assertEquals(5, csr.getEdgeValue(0, 1));
+        assertEquals(20, csr.getVertexValue(2));
+        assertEquals(2, csr.getAllDirectlyConnectedVertexes(0).size());
+    }
+
+    @Test
+    public void freeze_isNotAffectedByLaterChanges() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        AbstractGraph<Integer, Integer> graph = createWeightedGraph();
+        CsrGraph<Integer, Integer> csr = graph.freeze();
+        graph.addEdge(3, 0, 1);
+        assertFalse(csr.containsEdge(3, 0));
+    }
+
+    @Test
+    public void addVertexToSnapshot_throwsException() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        CsrGraph<Integer, Integer> csr = createWeightedGraph().freeze();
+        assertThrows(UnsupportedOperationException.class, () -> csr.addVertex(10));
+    }
+
+    @Test
+    public void runDijkstraOnSnapshot_choosesLighterPath() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        CsrGraph<Integer, Integer> csr = createWeightedGraph().freeze();
+        csr.updatePointType(0, PointType.SOURCE);
+        Map<Integer, Integer> result = new DijkstraTraversingAlgorithm<Integer>().run(csr);
+        assertEquals(2, result.get(1));
+        assertEquals(1, result.get(3));
+        assertNull(result.get(0));
+    }
+
+    @Test
+    public void runBFSOnSnapshot_sameResultAsOnGraph() {
+        GridGraph graph = new GridGraph(10, 10);
+        graph.updatePointType(new GridPoint(0, 0), PointType.SOURCE);
+        graph.updatePointType(new GridPoint(0, 1), PointType.BLOCKS);
+        Map<GridPoint, GridPoint> expected = new BFSTraversingAlgorithm<GridPoint, Integer>().run(graph);
+        Map<GridPoint, GridPoint> result = new BFSTraversingAlgorithm<GridPoint, Integer>().run(graph.freeze());
+        assertEquals(expected, result);
+    }
+}
@@ -0,0 +1,46 @@
+import com.company.Graphs.Algorithms.TraversingAlgorithms.DeltaSteppingTraversingAlgorithm;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.DijkstraTraversingAlgorithm;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.ShortestPathsTree;
+import com.company.Graphs.Errors.EdgeAlreadyExistsException;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.GraphInterface;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeltaSteppingTraversingAlgorithmTest {
+
+    private void checkSameDistances(GraphInterface<Integer, Integer> graph, DeltaSteppingTraversingAlgorithm<Integer> algorithm) throws NoSuchVertexException {
+        Map<Integer, Integer> expected = new DijkstraTraversingAlgorithm<Integer>().run(graph);
+        ShortestPathsTree<Integer> result = algorithm.runWithDistances(graph);
+        assertEquals(expected.keySet(), result.getParents().keySet());
+        for (Integer vertex : expected.keySet()) {
+            long distance = GraphTestUtils.getPathLength(graph, expected, vertex);
+            assertEquals(distance, GraphTestUtils.getPathLength(graph, result.getParents(), vertex));
+            assertEquals(distance, result.getDistance(vertex));
+        }
+    }
+
+    @Test
+    public void runWithDistances_findsSameDistancesAsDijkstra() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        GraphInterface<Integer, Integer> graph = GraphTestUtils.createRandomGraph(5, 3000, 15000, 100);
+        checkSameDistances(graph, new DeltaSteppingTraversingAlgorithm<>());
+        checkSameDistances(graph, new DeltaSteppingTraversingAlgorithm<>(1, new ForkJoinPool(4)));
+        checkSameDistances(graph, new DeltaSteppingTraversingAlgorithm<>(1000));
+    }
+
+    @Test
+    public void runWithZeroWeights_findsSameDistancesAsDijkstra() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        GraphInterface<Integer, Integer> graph = GraphTestUtils.createRandomGraph(5, 500, 3000, 1);
+        checkSameDistances(graph, new DeltaSteppingTraversingAlgorithm<>(2));
+    }
+
+    @Test
+    public void createWithNonPositiveDelta_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new DeltaSteppingTraversingAlgorithm<Integer>(0));
+    }
+}
@@ -245,4 +245,84 @@ public class DirectedGraphTest {
         assertTrue(isCorrect);
     }
 
+    @Test
+    public void getAllVertexesPointedToVertexAfterRemovals_returnsRemainingPredecessors() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException, NoSuchEdgeException {
+        DirectedGraph<Integer, Integer> graph = new DirectedGraph<>();
+        for (int i = 0; i < 4; ++i) {
+            graph.addVertex(i, 0);
+        }
+        graph.addEdge(0, 3);
+        graph.addEdge(1, 3);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 0);
+        graph.removeEdge(0, 3);
+        graph.removeVertex(1);
+        assertEquals(List.of(2), graph.getAllVertexesPointedToVertex(3));
+        assertEquals(List.of(3), graph.getAllVertexesPointedToVertex(0));
+    }
+
+    @Test
+    public void statisticsAfterChanges_countEdgesAndWeights() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException, NoSuchEdgeException {
+        DirectedGraph<Integer, Integer> graph = new DirectedGraph<>();
+        for (int i = 0; i < 4; ++i) {
+            graph.addVertex(i, 0);
+        }
+        graph.addEdge(0, 1, 5);
+        graph.addEdge(1, 2, 7);
+        graph.addEdge(2, 0, 2);
+        graph.addEdge(3, 0);
+        graph.addEdge(0, 3, 4);
+        assertEquals(5, graph.getEdgesNumber());
+        assertEquals(19, graph.getTotalWeight());
+        assertEquals(2, graph.getInDegree(0));
+        assertEquals(2, graph.getOutDegree(0));
+        graph.removeEdge(1, 2);
+        assertEquals(4, graph.getEdgesNumber());
+        assertEquals(12, graph.getTotalWeight());
+        graph.removeVertex(0);
+        assertEquals(0, graph.getEdgesNumber());
+        assertEquals(0, graph.getTotalWeight());
+        assertEquals(0, graph.getInDegree(2));
+    }
+
+    @Test
+    public void removeVertexWithLoop_removesOnlyIncidentEdges() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        DirectedGraph<Integer, Integer> graph = new DirectedGraph<>();
+        for (int i = 0; i < 3; ++i) {
+            graph.addVertex(i, 0);
+        }
+        graph.addEdge(0, 0, 1);
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(1, 0, 3);
+        graph.addEdge(2, 1, 4);
+        graph.removeVertex(0);
+        assertEquals(1, graph.getEdgesNumber());
+        assertEquals(4, graph.getTotalWeight());
+        assertEquals(List.of(2), graph.getAllVertexesPointedToVertex(1));
+        assertTrue(graph.getAllDirectlyConnectedVertexes(1).isEmpty());
+        graph.addVertex(0, 0);
+        graph.addEdge(1, 0);
+        assertNull(graph.getEdgeValue(1, 0));
+    }
+
+    @Test
+    public void removeVertex_keepsIndexedEdgesOfMovedVertex() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        DirectedGraph<Integer, Integer> graph = new DirectedGraph<>();
+        for (int i = 0; i < 4; ++i) {
+            graph.addVertex(i, 0);
+        }
+        graph.addEdge(1, 3, 5);
+        graph.addEdge(3, 2, 7);
+        graph.addEdge(2, 3, 9);
+        graph.removeVertex(0);
+        int index = graph.getVertexIndex(3);
+        assertEquals(1, graph.getDegreeByIndex(index));
+        assertEquals(2, graph.getVertexByIndex(graph.getNeighbourByIndex(index, 0)));
+        assertEquals(7, graph.getEdgeWeightByIndex(index, 0));
+        assertEquals(7, graph.getEdgeValueByIndex(index, 0));
+        assertEquals(2, graph.getInDegreeByIndex(index));
+        assertEquals(1, graph.getVertexByIndex(graph.getPredecessorByIndex(index, 0)));
+        assertEquals(9, graph.getInEdgeWeightByIndex(index, 1));
+    }
+
 }
@@ -0,0 +1,117 @@
+import com.company.Graphs.Algorithms.DynamicConnectivity;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DynamicConnectivityTest {
+
+    private static int[] getComponents(int size, Set<Long> edges, Set<Integer> removed) {
+        int[] components = new int[size];
+        Arrays.fill(components, -1);
+        List<List<Integer>> neighbours = new ArrayList<>();
+        for (int i = 0; i < size; ++i) {
+            neighbours.add(new ArrayList<>());
+        }
+        for (long edge : edges) {
+            neighbours.get((int) (edge >>> 32)).add((int) edge);
+            neighbours.get((int) edge).add((int) (edge >>> 32));
+        }
+        for (int start = 0; start < size; ++start) {
+            if (components[start] != -1 || removed.contains(start)) continue;
+            Deque<Integer> stack = new ArrayDeque<>();
+            stack.push(start);
+            components[start] = start;
+            while (!stack.isEmpty()) {
+                for (int next : neighbours.get(stack.pop())) {
+                    if (components[next] != -1) continue;
+                    components[next] = start;
+                    stack.push(next);
+                }
+            }
+        }
+        return components;
+    }
+
+    @Test
+    public void removeEdge_findsReplacementEdge() {
+        DynamicConnectivity connectivity = new DynamicConnectivity();
+        for (int i = 0; i < 4; ++i) {
+            connectivity.addVertex();
+        }
+        connectivity.addEdge(0, 1);
+        connectivity.addEdge(1, 2);
+        connectivity.addEdge(2, 3);
+        connectivity.addEdge(3, 0);
+        assertEquals(1, connectivity.getComponentsNumber());
+        connectivity.removeEdge(1, 2);
+        assertTrue(connectivity.isConnected(1, 2));
+        assertEquals(1, connectivity.getComponentsNumber());
+        connectivity.removeEdge(3, 0);
+        assertFalse(connectivity.isConnected(1, 2));
+        assertTrue(connectivity.isConnected(2, 3));
+        assertEquals(2, connectivity.getComponentsNumber());
+    }
+
+    @Test
+    public void removeVertex_reusesId() {
+        DynamicConnectivity connectivity = new DynamicConnectivity();
+        for (int i = 0; i < 3; ++i) {
+            connectivity.addVertex();
+        }
+        connectivity.addEdge(0, 1);
+        connectivity.addEdge(1, 2);
+        connectivity.removeVertex(1);
+        assertFalse(connectivity.isConnected(0, 2));
+        assertEquals(2, connectivity.getComponentsNumber());
+        assertEquals(1, connectivity.addVertex());
+        assertFalse(connectivity.isConnected(0, 1));
+        assertEquals(3, connectivity.getComponentsNumber());
+    }
+
+    @Test
+    public void randomChanges_sameAsTraversal() {
+        Random random = new Random(5);
+        int size = 60;
+        DynamicConnectivity connectivity = new DynamicConnectivity();
+        for (int i = 0; i < size; ++i) {
+            connectivity.addVertex();
+        }
+        Set<Long> edges = new HashSet<>();
+        Set<Integer> removed = new HashSet<>();
+        for (int step = 0; step < 5000; ++step) {
+            int first = random.nextInt(size);
+            int second = random.nextInt(size);
+            if (first == second) continue;
+            if (removed.contains(first)) {
+                assertTrue(removed.remove(connectivity.addVertex()));
+                continue;
+            }
+            if (removed.contains(second)) continue;
+            if (random.nextInt(100) == 0) {
+                connectivity.removeVertex(first);
+                edges.removeIf(edge -> (int) (edge >>> 32) == first || (int) (long) edge == first);
+                removed.add(first);
+                continue;
+            }
+            long key = ((long) Math.min(first, second) << 32) | Math.max(first, second);
+            if (edges.remove(key)) assertTrue(connectivity.removeEdge(first, second));
+            else if (edges.size() < 2 * size) assertTrue(connectivity.addEdge(first, second) && edges.add(key));
+
+            int[] components = getComponents(size, edges, removed);
+            int componentsNumber = 0;
+            for (int i = 0; i < size; ++i) {
+                if (components[i] == i) ++componentsNumber;
+            }
+            assertEquals(componentsNumber, connectivity.getComponentsNumber());
+            for (int i = 0; i < 20; ++i) {
+                int u = random.nextInt(size);
+                int v = random.nextInt(size);
+                if (removed.contains(u) || removed.contains(v)) continue;
+                boolean connected = connectivity.isConnected(u, v);
+                assertEquals(components[u] == components[v], connected);
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+import com.company.Graphs.Algorithms.AlgorithmBudget;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.BidirectionalBFSGraphAlgorithm;
+import com.company.Graphs.Algorithms.GraphQueryService;
+import com.company.Graphs.Errors.AlgorithmAbortedException;
+import com.company.Graphs.Errors.EdgeAlreadyExistsException;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.Implementations.UnDirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GraphQueryServiceTest {
+
+    private GraphInterface<Integer, Integer> createRandomGraph() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        Random random = new Random(17);
+        GraphInterface<Integer, Integer> graph = new UnDirectedGraph<>();
+        for (int i = 0; i < 100; ++i) {
+            graph.addVertex(i, 0);
+        }
+        for (int i = 0; i < 200; ++i) {
+            int from = random.nextInt(100);
+            int to = random.nextInt(100);
+            if (graph.containsEdge(from, to)) continue;
+            graph.addEdge(from, to);
+        }
+        return graph;
+    }
+
+    @Test
+    public void submitManyQueries_sameResultsAsRun() throws Exception {
+        GraphInterface<Integer, Integer> graph = createRandomGraph();
+        try (GraphQueryService<Integer, Integer> service = new GraphQueryService<>(graph, 8, Duration.ofSeconds(10))) {
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; ++i) {
+                futures.add(service.submit(new BidirectionalBFSGraphAlgorithm<>(i % 100, (7 * i) % 100)));
+            }
+            for (int i = 0; i < 200; ++i) {
+                assertEquals(graph.calculateShortestDistanceBetweenVertexes(i % 100, (7 * i) % 100), futures.get(i).get());
+            }
+            assertEquals(200, service.getSubmittedNumber());
+            assertEquals(200, service.getCompletedNumber());
+            assertEquals(0, service.getFailedNumber());
+        }
+    }
+
+    @Test
+    public void submitLongQuery_abortedByTimeout() throws Exception {
+        GraphInterface<Integer, Integer> graph = createRandomGraph();
+        try (GraphQueryService<Integer, Integer> service = new GraphQueryService<>(graph, 1, Duration.ofMillis(50))) {
+            CompletableFuture<Integer> future = service.submit(queried -> {
+                while (true) {
+                    AlgorithmBudget.current().visit();
+                }
+            });
+            ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+            assertTrue(exception.getCause() instanceof AlgorithmAbortedException);
+            assertEquals(1, service.getAbortedNumber());
+            assertEquals(0, service.getCompletedNumber());
+        }
+    }
+
+    @Test
+    public void submitQueryBehindLongQuery_abortedByTimeoutInQueue() throws Exception {
+        GraphInterface<Integer, Integer> graph = createRandomGraph();
+        try (GraphQueryService<Integer, Integer> service = new GraphQueryService<>(graph, 1, Duration.ofMillis(50))) {
+            CompletableFuture<Integer> first = service.submit(queried -> {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return queried.getVertexNumber();
+            });
+            CompletableFuture<Integer> second = service.submit(GraphInterface::getVertexNumber);
+            ExecutionException exception = assertThrows(ExecutionException.class, second::get);
+            assertTrue(exception.getCause() instanceof AlgorithmAbortedException);
+            assertEquals(100, first.get());
+        }
+    }
+
+    @Test
+    public void submitMoreQueriesThanConcurrency_runAtMostConcurrency() throws Exception {
+        GraphInterface<Integer, Integer> graph = createRandomGraph();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        try (GraphQueryService<Integer, Integer> service = new GraphQueryService<>(graph, 2, Duration.ofSeconds(10))) {
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; ++i) {
+                futures.add(service.submit(queried -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    return queried.getVertexNumber();
+                }));
+            }
+            for (CompletableFuture<Integer> future : futures) {
+                assertEquals(100, future.get());
+            }
+        }
+        assertTrue(maxRunning.get() <= 2);
+    }
+}
@@ -0,0 +1,70 @@
+import com.company.Graphs.Errors.EdgeAlreadyExistsException;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.GraphInterface.PointType;
+import com.company.Graphs.Implementations.DirectedGraph;
+import javafx.util.Pair;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Graphs and checks shared by tests of shortest paths and spanning forest algorithms
+ */
+public class GraphTestUtils {
+
+    private GraphTestUtils() {
+    }
+
+    /**
+     * Adds vertexes from 0 to vertexes - 1 and random edges without loops with weights from 0 to maxWeight
+     */
+    public static void addRandomEdges(GraphInterface<Integer, Integer> graph, long seed, int vertexes, int edges, int maxWeight) throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        Random random = new Random(seed);
+        for (int i = 0; i < vertexes; ++i) {
+            graph.addVertex(i, 0);
+        }
+        for (int i = 0; i < edges; ++i) {
+            int from = random.nextInt(vertexes);
+            int to = random.nextInt(vertexes);
+            if (from == to || graph.containsEdge(from, to)) continue;
+            graph.addEdge(from, to, random.nextInt(maxWeight + 1));
+        }
+    }
+
+    /**
+     * @return random directed graph with a source in vertex 0
+     */
+    public static GraphInterface<Integer, Integer> createRandomGraph(long seed, int vertexes, int edges, int maxWeight) throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        GraphInterface<Integer, Integer> graph = new DirectedGraph<>();
+        addRandomEdges(graph, seed, vertexes, edges, maxWeight);
+        graph.updatePointType(0, PointType.SOURCE);
+        return graph;
+    }
+
+    /**
+     * @return sum of values of edges on a path from a source to a vertex or Long.MAX_VALUE if vertex was not reached
+     */
+    public static long getPathLength(GraphInterface<Integer, Integer> graph, Map<Integer, Integer> parents, Integer vertex) throws NoSuchVertexException {
+        if (!parents.containsKey(vertex)) return Long.MAX_VALUE;
+        long length = 0;
+        while (parents.get(vertex) != null) {
+            length += graph.getEdgeValue(parents.get(vertex), vertex);
+            vertex = parents.get(vertex);
+        }
+        return length;
+    }
+
+    /**
+     * @return sum of values of edges
+     */
+    public static long getWeight(GraphInterface<Integer, Integer> graph, List<Pair<Integer, Integer>> edges) throws NoSuchVertexException {
+        long weight = 0;
+        for (Pair<Integer, Integer> edge : edges) {
+            weight += graph.getEdgeValue(edge.getKey(), edge.getValue());
+        }
+        return weight;
+    }
+}
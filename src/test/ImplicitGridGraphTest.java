@@ -0,0 +1,114 @@
+import com.company.Graphs.Algorithms.TraversingAlgorithms.BFSTraversingAlgorithm;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.DijkstraTraversingAlgorithm;
+import com.company.Graphs.Errors.EdgeAlreadyExistsException;
+import com.company.Graphs.Errors.NoSuchEdgeException;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.GraphInterface.PointType;
+import com.company.Graphs.GridPoint;
+import com.company.Graphs.Implementations.GridGraph;
+import com.company.Graphs.Implementations.ImplicitGridGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImplicitGridGraphTest {
+
+    @Test
+    public void createGrid_hasSameStructureAsGridGraph() throws NoSuchVertexException {
+        GridGraph expected = new GridGraph(5, 7);
+        ImplicitGridGraph graph = new ImplicitGridGraph(5, 7);
+        assertEquals(expected.getVertexNumber(), graph.getVertexNumber());
+        assertEquals(expected.getEdgesNumber(), graph.getEdgesNumber());
+        for (GridPoint point : expected.getAllVertexesIds()) {
+            assertEquals(expected.getAllDirectlyConnectedVertexes(point), graph.getAllDirectlyConnectedVertexes(point));
+        }
+    }
+
+    @Test
+    public void removeVertex_removesItsEdges() throws NoSuchVertexException {
+        ImplicitGridGraph graph = new ImplicitGridGraph(3, 3);
+        graph.removeVertex(new GridPoint(1, 1));
+        assertFalse(graph.containsVertex(new GridPoint(1, 1)));
+        assertFalse(graph.containsEdge(new GridPoint(0, 1), new GridPoint(1, 1)));
+        assertEquals(8, graph.getVertexNumber());
+        assertEquals(16, graph.getEdgesNumber());
+    }
+
+    @Test
+    public void removeAndAddEdge_restoresEdge() throws NoSuchVertexException, NoSuchEdgeException, EdgeAlreadyExistsException {
+        ImplicitGridGraph graph = new ImplicitGridGraph(3, 3);
+        graph.removeEdge(new GridPoint(0, 0), new GridPoint(0, 1));
+        assertFalse(graph.containsEdge(new GridPoint(0, 1), new GridPoint(0, 0)));
+        graph.addEdge(new GridPoint(0, 1), new GridPoint(0, 0));
+        assertTrue(graph.containsEdge(new GridPoint(0, 0), new GridPoint(0, 1)));
+        Exception exception = assertThrows(EdgeAlreadyExistsException.class, () -> graph.addEdge(new GridPoint(0, 0), new GridPoint(0, 1)));
+        assertEquals("Edge between GridPoint{row=0, col=0} and GridPoint{row=0, col=1} already exists", exception.getMessage());
+    }
+
+    @Test
+    public void edgeBetweenRowEnds_doesNotExist() {
+        ImplicitGridGraph graph = new ImplicitGridGraph(3, 3);
+        assertFalse(graph.containsEdge(new GridPoint(0, 2), new GridPoint(1, 0)));
+    }
+
+    @Test
+    public void runBFS_sameResultAsOnGridGraph() {
+        GridGraph expected = new GridGraph(10, 10);
+        ImplicitGridGraph graph = new ImplicitGridGraph(10, 10);
+        for (PointType type : new PointType[]{PointType.SOURCE, PointType.BLOCKS, PointType.FINISH}) {
+            GridPoint point = new GridPoint(type.ordinal(), 3);
+            expected.updatePointType(point, type);
+            graph.updatePointType(point, type);
+        }
+        assertEquals(new BFSTraversingAlgorithm<GridPoint, Integer>().run(expected), new BFSTraversingAlgorithm<GridPoint, Integer>().run(graph));
+        assertTrue(graph.getPointsOfType(PointType.BLOCKS).contains(new GridPoint(2, 3)));
+        assertFalse(graph.isFreePoint(new GridPoint(2, 3)));
+    }
+
+    @Test
+    public void runDijkstraWithCellWeights_avoidsHeavyCells() throws NoSuchVertexException {
+        ImplicitGridGraph graph = new ImplicitGridGraph(2, 3);
+        graph.setCellWeight(new GridPoint(0, 1), 10);
+        graph.updatePointType(new GridPoint(0, 0), PointType.SOURCE);
+        Map<GridPoint, GridPoint> result = new DijkstraTraversingAlgorithm<GridPoint>().run(graph);
+        assertEquals(new GridPoint(1, 2), result.get(new GridPoint(0, 2)));
+    }
+
+    @Test
+    public void setCellWeight_keepsWeightOfOtherCells() throws NoSuchVertexException, VertexAlreadyExistsException {
+        ImplicitGridGraph graph = new ImplicitGridGraph(2, 2);
+        graph.setCellWeight(new GridPoint(0, 1), 10);
+        assertEquals(1, graph.getVertexValue(new GridPoint(1, 1)));
+        assertEquals(1, graph.getEdgeValue(new GridPoint(0, 1), new GridPoint(0, 0)));
+        graph.removeVertex(new GridPoint(0, 1));
+        graph.addVertex(new GridPoint(0, 1), null);
+        assertEquals(1, graph.getVertexValue(new GridPoint(0, 1)));
+    }
+
+    @Test
+    public void getEdgeValueForMissingEdge_returnsNull() throws NoSuchVertexException, NoSuchEdgeException {
+        ImplicitGridGraph graph = new ImplicitGridGraph(2, 2);
+        assertNull(graph.getEdgeValue(new GridPoint(0, 0), new GridPoint(1, 1)));
+        graph.removeEdge(new GridPoint(0, 0), new GridPoint(0, 1));
+        assertNull(graph.getEdgeValue(new GridPoint(0, 0), new GridPoint(0, 1)));
+    }
+
+    @Test
+    public void changeGridAfterCopy_copyIsNotChanged() throws NoSuchVertexException {
+        ImplicitGridGraph graph = new ImplicitGridGraph(3, 3);
+        graph.updatePointType(new GridPoint(0, 0), PointType.SOURCE);
+        ImplicitGridGraph copy = graph.copy();
+        graph.updatePointType(new GridPoint(0, 0), PointType.FREE);
+        graph.updatePointType(new GridPoint(1, 1), PointType.BLOCKS);
+        graph.removeVertex(new GridPoint(2, 2));
+        graph.setCellWeight(new GridPoint(0, 1), 5);
+        assertTrue(copy.getPointsOfType(PointType.SOURCE).contains(new GridPoint(0, 0)));
+        assertTrue(copy.isFreePoint(new GridPoint(1, 1)));
+        assertTrue(copy.containsVertex(new GridPoint(2, 2)));
+        assertEquals(1, copy.getVertexValue(new GridPoint(0, 1)));
+        assertEquals(9, copy.getVertexNumber());
+    }
+}
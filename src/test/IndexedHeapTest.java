@@ -0,0 +1,51 @@
+import com.company.Graphs.Algorithms.IndexedHeap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedHeapTest {
+
+    @Test
+    public void poll_returnsIndexesInOrderOfKeys() {
+        Random random = new Random(42);
+        for (int arity = 2; arity <= 8; ++arity) {
+            IndexedHeap heap = new IndexedHeap(1000, arity);
+            long[] keys = new long[1000];
+            for (int i = 0; i < keys.length; ++i) {
+                keys[i] = random.nextInt(100000);
+                heap.pushOrDecrease(i, keys[i]);
+            }
+            Arrays.sort(keys);
+            for (long key : keys) {
+                assertEquals(key, heap.getKey(heap.peek()));
+                heap.poll();
+            }
+            assertTrue(heap.isEmpty());
+        }
+    }
+
+    @Test
+    public void pushOrDecrease_decreasesKeyInPlace() {
+        IndexedHeap heap = new IndexedHeap(3, 4);
+        heap.pushOrDecrease(0, 10);
+        heap.pushOrDecrease(1, 20);
+        heap.pushOrDecrease(2, 30);
+        heap.pushOrDecrease(2, 5);
+        heap.pushOrDecrease(0, 50);
+        assertEquals(3, heap.size());
+        assertEquals(2, heap.poll());
+        assertEquals(0, heap.poll());
+        assertEquals(1, heap.poll());
+        assertFalse(heap.contains(1));
+    }
+
+    @Test
+    public void pollFromEmptyHeap_throwsException() {
+        IndexedHeap heap = new IndexedHeap(1, 2);
+        assertThrows(NoSuchElementException.class, heap::poll);
+    }
+}
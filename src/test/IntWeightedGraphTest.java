@@ -0,0 +1,123 @@
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.PrimGraphAlgorithm;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.DijkstraTraversingAlgorithm;
+import com.company.Graphs.Errors.EdgeAlreadyExistsException;
+import com.company.Graphs.Errors.NoSuchEdgeException;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.GraphInterface.PointType;
+import com.company.Graphs.Implementations.AbstractGraph;
+import com.company.Graphs.Implementations.DirectedGraph;
+import com.company.Graphs.Implementations.IntWeightedGraph;
+import com.company.Graphs.Implementations.UnDirectedGraph;
+import com.company.Graphs.ReverseIndexedGraphInterface;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntWeightedGraphTest {
+
+    private void applyRandomChanges(AbstractGraph<Integer, Integer> expected, IntWeightedGraph<Integer> graph) throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException, NoSuchEdgeException {
+        Random random = new Random(19);
+        for (int i = 0; i < 60; ++i) {
+            expected.addVertex(i, 0);
+            graph.addVertex(i, 0);
+        }
+        for (int step = 0; step < 3000; ++step) {
+            int from = random.nextInt(60);
+            int to = random.nextInt(60);
+            if (!expected.containsVertex(from)) {
+                expected.addVertex(from, 0);
+                graph.addVertex(from, 0);
+            } else if (random.nextInt(50) == 0) {
+                expected.removeVertex(from);
+                graph.removeVertex(from);
+            } else if (!expected.containsVertex(to)) {
+                continue;
+            } else if (expected.containsEdge(from, to)) {
+                expected.removeEdge(from, to);
+                graph.removeEdge(from, to);
+            } else {
+                int weight = random.nextInt(30);
+                expected.addEdge(from, to, weight);
+                graph.addEdge(from, to, weight);
+            }
+        }
+    }
+
+    private void checkSameEdges(AbstractGraph<Integer, Integer> expected, IntWeightedGraph<Integer> graph) throws NoSuchVertexException {
+        assertEquals(expected.getEdgesNumber(), graph.getEdgesNumber());
+        assertEquals(expected.getTotalWeight(), graph.getTotalWeight());
+        for (int index = 0; index < graph.getVertexIndexBound(); ++index) {
+            Integer vertex = graph.getVertexByIndex(index);
+            assertEquals(expected.getOutDegree(vertex), graph.getDegreeByIndex(index));
+            assertEquals(expected.getInDegree(vertex), graph.getInDegree(vertex));
+            for (int position = 0; position < graph.getDegreeByIndex(index); ++position) {
+                Integer neighbour = graph.getVertexByIndex(graph.getNeighbourByIndex(index, position));
+                assertEquals(graph.getAllDirectlyConnectedVertexes(vertex).get(position), neighbour);
+                assertEquals(expected.getEdgeValue(vertex, neighbour), graph.getEdgeValue(vertex, neighbour));
+                assertEquals((int) expected.getEdgeValue(vertex, neighbour), graph.getEdgeWeightByIndex(index, position));
+            }
+        }
+    }
+
+    private <G extends AbstractGraph<Integer, Integer> & ReverseIndexedGraphInterface<Integer, Integer>> Map<Integer, Integer> getInEdges(G graph, Integer vertex) {
+        int index = graph.getVertexIndex(vertex);
+        Map<Integer, Integer> result = new HashMap<>();
+        for (int position = 0; position < graph.getInDegreeByIndex(index); ++position) {
+            result.put(graph.getVertexByIndex(graph.getPredecessorByIndex(index, position)), graph.getInEdgeWeightByIndex(index, position));
+        }
+        return result;
+    }
+
+    @Test
+    public void randomChangesOfDirectedGraph_sameAsDirectedGraph() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException, NoSuchEdgeException {
+        DirectedGraph<Integer, Integer> expected = new DirectedGraph<>();
+        IntWeightedGraph<Integer> graph = new IntWeightedGraph<>(true);
+        applyRandomChanges(expected, graph);
+        checkSameEdges(expected, graph);
+    }
+
+    @Test
+    public void randomChangesOfUnDirectedGraph_sameAsUnDirectedGraph() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException, NoSuchEdgeException {
+        UnDirectedGraph<Integer, Integer> expected = new UnDirectedGraph<>();
+        IntWeightedGraph<Integer> graph = new IntWeightedGraph<>();
+        applyRandomChanges(expected, graph);
+        checkSameEdges(expected, graph);
+        assertEquals(expected.runAlgorithm(new PrimGraphAlgorithm<>()).size(), graph.runAlgorithm(new PrimGraphAlgorithm<>()).size());
+    }
+
+    @Test
+    public void runDijkstra_findsSameVertexesAsOnDirectedGraph() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException, NoSuchEdgeException {
+        DirectedGraph<Integer, Integer> expected = new DirectedGraph<>();
+        IntWeightedGraph<Integer> graph = new IntWeightedGraph<>(true);
+        applyRandomChanges(expected, graph);
+        Integer source = graph.getVertexByIndex(0);
+        expected.updatePointType(source, PointType.SOURCE);
+        graph.updatePointType(source, PointType.SOURCE);
+        assertEquals(expected.runAlgorithm(new DijkstraTraversingAlgorithm<>()).keySet(), graph.runAlgorithm(new DijkstraTraversingAlgorithm<>()).keySet());
+    }
+
+    @Test
+    public void addEdgeWithoutValue_hasWeightOne() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        IntWeightedGraph<Integer> graph = new IntWeightedGraph<>();
+        graph.addVertex(0);
+        graph.addVertex(1);
+        graph.addEdge(0, 1);
+        assertEquals(1, (int) graph.getEdgeValue(1, 0));
+        assertNull(graph.getEdgeValue(0, 0));
+    }
+
+    @Test
+    public void walkEdgesBackwards_sameAsDirectedGraph() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException, NoSuchEdgeException {
+        DirectedGraph<Integer, Integer> expected = new DirectedGraph<>();
+        IntWeightedGraph<Integer> graph = new IntWeightedGraph<>(true);
+        applyRandomChanges(expected, graph);
+        for (Integer vertex : graph.getAllVertexesIds()) {
+            assertEquals(getInEdges(expected, vertex), getInEdges(graph, vertex));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+import com.company.Graphs.Algorithms.IterativeDepthFirstSearch;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.DFSTraversingAlgorithm;
+import com.company.Graphs.GraphInterface.PointType;
+import com.company.Graphs.GridPoint;
+import com.company.Graphs.Implementations.ImplicitGridGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IterativeDepthFirstSearchTest {
+
+    @Test
+    public void runOnLongPath_doesNotOverflowStack() {
+        ImplicitGridGraph graph = new ImplicitGridGraph(1000, 1000);
+        graph.updatePointType(new GridPoint(0, 0), PointType.SOURCE);
+        Map<GridPoint, GridPoint> result = new DFSTraversingAlgorithm<GridPoint, Integer>(false).run(graph);
+        assertEquals(1000 * 1000 - 1, result.size());
+        assertTrue(graph.isGraphConnected());
+    }
+
+    @Test
+    public void runInRandomOrder_entersEachVertexOnceThroughExistingEdge() {
+        ImplicitGridGraph graph = new ImplicitGridGraph(30, 30);
+        IterativeDepthFirstSearch search = new IterativeDepthFirstSearch(graph, new Random(1));
+        int[] entered = new int[graph.getVertexIndexBound()];
+        search.run(0, (from, to) -> {
+            assertTrue(graph.containsEdge(graph.getVertexByIndex(from), graph.getVertexByIndex(to)));
+            ++entered[to];
+            return true;
+        });
+        assertEquals(900, search.getVisited().cardinality());
+        for (int index = 1; index < entered.length; ++index) {
+            assertEquals(1, entered[index]);
+        }
+    }
+
+    @Test
+    public void runFromVisitedVertex_doesNothing() {
+        ImplicitGridGraph graph = new ImplicitGridGraph(3, 3);
+        IterativeDepthFirstSearch search = new IterativeDepthFirstSearch(graph, null);
+        search.run(4, (from, to) -> to != 0);
+        assertFalse(search.getVisited().get(0));
+        search.run(4, (from, to) -> true);
+        assertFalse(search.getVisited().get(0));
+    }
+}
@@ -0,0 +1,66 @@
+import com.company.Graphs.Algorithms.TraversAlgorithmsResult;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.BFSTraversingAlgorithm;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.JumpPointSearchTraversingAlgorithm;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.GraphInterface.PointType;
+import com.company.Graphs.GridPoint;
+import com.company.Graphs.Implementations.GridGraph;
+import com.company.Graphs.Implementations.ImplicitGridGraph;
+import javafx.util.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JumpPointSearchTraversingAlgorithmTest {
+
+    private void setUpRandomGrid(GraphInterface<GridPoint, Integer> graph, int size, long seed) {
+        Random random = new Random(seed);
+        for (int row = 0; row < size; ++row) {
+            for (int col = 0; col < size; ++col) {
+                if (random.nextInt(4) == 0) graph.updatePointType(new GridPoint(row, col), PointType.BLOCKS);
+            }
+        }
+        graph.updatePointType(new GridPoint(0, 0), PointType.SOURCE);
+        graph.updatePointType(new GridPoint(size - 1, size - 1), PointType.FINISH);
+    }
+
+    private void assertPathIsConnected(List<Pair<GridPoint, GridPoint>> path, GraphInterface<GridPoint, Integer> graph) {
+        for (Pair<GridPoint, GridPoint> step : path) {
+            if (step.getValue() == null) continue;
+            assertTrue(graph.containsEdge(step.getKey(), step.getValue()));
+            assertFalse(graph.getPointsOfType(PointType.BLOCKS).contains(step.getKey()));
+        }
+    }
+
+    @Test
+    public void runOnRandomGrids_findsPathsOfSameLengthAsBFS() {
+        for (long seed = 0; seed < 20; ++seed) {
+            GraphInterface<GridPoint, Integer> graph = seed % 2 == 0 ? new ImplicitGridGraph(30, 30) : new GridGraph(30, 30);
+            setUpRandomGrid(graph, 30, seed);
+            Map<GridPoint, GridPoint> bfs = new BFSTraversingAlgorithm<GridPoint, Integer>().run(graph);
+            Map<GridPoint, GridPoint> result = new JumpPointSearchTraversingAlgorithm().run(graph);
+            List<Pair<GridPoint, GridPoint>> expected = new TraversAlgorithmsResult<>(bfs, graph).getRestoredPaths();
+            List<Pair<GridPoint, GridPoint>> path = new TraversAlgorithmsResult<>(result, graph).getRestoredPaths();
+            if (expected.isEmpty()) {
+                assertFalse(result.containsKey(new GridPoint(29, 29)));
+                continue;
+            }
+            assertEquals(expected.size(), path.size());
+            assertPathIsConnected(path, graph);
+        }
+    }
+
+    @Test
+    public void runWithDiagonalMoves_findsDiagonalPath() {
+        ImplicitGridGraph graph = new ImplicitGridGraph(10, 10);
+        graph.updatePointType(new GridPoint(0, 0), PointType.SOURCE);
+        graph.updatePointType(new GridPoint(9, 9), PointType.FINISH);
+        Map<GridPoint, GridPoint> result = new JumpPointSearchTraversingAlgorithm(true).run(graph);
+        assertEquals(new GridPoint(8, 8), result.get(new GridPoint(9, 9)));
+        assertEquals(10, new TraversAlgorithmsResult<>(result, graph).getRestoredPaths().size());
+    }
+}
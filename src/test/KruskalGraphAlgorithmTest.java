@@ -0,0 +1,54 @@
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.KruskalGraphAlgorithm;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.PrimGraphAlgorithm;
+import com.company.Graphs.Errors.EdgeAlreadyExistsException;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.Implementations.UnDirectedGraph;
+import javafx.util.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KruskalGraphAlgorithmTest {
+
+    @Test
+    public void runOnRandomGraph_sameWeightAsPrim() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        Random random = new Random(3);
+        GraphInterface<Integer, Integer> graph = new UnDirectedGraph<>();
+        for (int i = 0; i < 200; ++i) {
+            graph.addVertex(i, 0);
+        }
+        for (int i = 0; i < 500; ++i) {
+            int from = random.nextInt(200);
+            int to = random.nextInt(200);
+            if (from == to || graph.containsEdge(from, to)) continue;
+            graph.addEdge(from, to, random.nextInt(50) - 10);
+        }
+        List<Pair<Integer, Integer>> kruskal = graph.runAlgorithm(new KruskalGraphAlgorithm<>());
+        List<Pair<Integer, Integer>> prim = graph.runAlgorithm(new PrimGraphAlgorithm<>());
+        assertEquals(prim.size(), kruskal.size());
+        assertEquals(GraphTestUtils.getWeight(graph, prim), GraphTestUtils.getWeight(graph, kruskal));
+    }
+
+    @Test
+    public void runWithDoubleValues_comparesValues() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        GraphInterface<Integer, Double> graph = new UnDirectedGraph<>();
+        for (int i = 0; i < 3; ++i) {
+            graph.addVertex(i, 0.0);
+        }
+        graph.addEdge(0, 1, 0.9);
+        graph.addEdge(1, 2, 0.2);
+        graph.addEdge(0, 2, 0.5);
+        List<Pair<Integer, Integer>> tree = graph.runAlgorithm(new KruskalGraphAlgorithm<>());
+        double weight = 0;
+        for (Pair<Integer, Integer> edge : tree) {
+            weight += graph.getEdgeValue(edge.getKey(), edge.getValue());
+        }
+        assertEquals(2, tree.size());
+        assertEquals(0.7, weight, 1e-9);
+    }
+}
@@ -0,0 +1,61 @@
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.MultiSourceBFSGraphAlgorithm;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.MultiSourceDistances;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.ShortestDistanceFromVertexCalculationGraphAlgorithm;
+import com.company.Graphs.Errors.EdgeAlreadyExistsException;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.Implementations.DirectedGraph;
+import com.company.Graphs.Implementations.UnDirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MultiSourceBFSGraphAlgorithmTest {
+
+    @Test
+    public void runFromMoreThan64Sources_sameDistancesAsBFS() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        Random random = new Random(5);
+        GraphInterface<Integer, Integer> graph = new DirectedGraph<>();
+        for (int i = 0; i < 300; ++i) {
+            graph.addVertex(i, 0);
+        }
+        for (int i = 0; i < 700; ++i) {
+            int from = random.nextInt(300);
+            int to = random.nextInt(300);
+            if (graph.containsEdge(from, to)) continue;
+            graph.addEdge(from, to);
+        }
+        List<Integer> sources = new ArrayList<>();
+        for (int i = 0; i < 150; ++i) {
+            sources.add(random.nextInt(300));
+        }
+        MultiSourceDistances<Integer> result = graph.runAlgorithm(new MultiSourceBFSGraphAlgorithm<>(sources));
+        for (Integer source : sources) {
+            Map<Integer, Integer> expected = graph.runAlgorithm(new ShortestDistanceFromVertexCalculationGraphAlgorithm<>(source));
+            for (int vertex = 0; vertex < 300; ++vertex) {
+                assertEquals(expected.get(vertex), result.getDistance(source, vertex));
+            }
+        }
+    }
+
+    @Test
+    public void runWithMissingSource_nullDistances() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        GraphInterface<Integer, Integer> graph = new UnDirectedGraph<>();
+        graph.addVertex(1, 0);
+        graph.addVertex(2, 0);
+        graph.addVertex(3, 0);
+        graph.addEdge(1, 2);
+        MultiSourceDistances<Integer> result = graph.runAlgorithm(new MultiSourceBFSGraphAlgorithm<>(Arrays.asList(7, 2)));
+        assertNull(result.getDistances(0));
+        assertNull(result.getDistance(7, 1));
+        assertEquals(1, result.getDistance(2, 1));
+        assertEquals(Integer.MAX_VALUE, result.getDistance(2, 3));
+    }
+}
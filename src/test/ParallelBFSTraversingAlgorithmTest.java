@@ -0,0 +1,71 @@
+import com.company.Graphs.Algorithms.TraversingAlgorithms.BFSTraversingAlgorithm;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.ParallelBFSTraversingAlgorithm;
+import com.company.Graphs.Errors.EdgeAlreadyExistsException;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.GraphInterface.PointType;
+import com.company.Graphs.GridPoint;
+import com.company.Graphs.Implementations.DirectedGraph;
+import com.company.Graphs.Implementations.ImplicitGridGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelBFSTraversingAlgorithmTest {
+
+    private <T> int getDepth(Map<T, T> parents, T vertex) {
+        int depth = 0;
+        while (parents.containsKey(vertex)) {
+            vertex = parents.get(vertex);
+            ++depth;
+        }
+        return depth;
+    }
+
+    private <T> void checkSameTree(GraphInterface<T, ?> graph, Map<T, T> expected, Map<T, T> result) {
+        assertEquals(expected.keySet(), result.keySet());
+        for (T vertex : result.keySet()) {
+            assertTrue(graph.containsEdge(result.get(vertex), vertex));
+            assertEquals(getDepth(expected, vertex), getDepth(result, vertex));
+        }
+    }
+
+    @Test
+    public void runOnDenseDirectedGraph_findsSameLevelsAsBFS() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        Random random = new Random(3);
+        GraphInterface<Integer, Integer> graph = new DirectedGraph<>();
+        for (int i = 0; i < 2000; ++i) {
+            graph.addVertex(i, 0);
+        }
+        for (int i = 0; i < 20000; ++i) {
+            int from = random.nextInt(2000);
+            int to = random.nextInt(2000);
+            if (from != to && !graph.containsEdge(from, to)) graph.addEdge(from, to);
+        }
+        graph.updatePointType(0, PointType.SOURCE);
+        graph.updatePointType(1, PointType.SOURCE);
+        graph.updatePointType(2, PointType.BLOCKS);
+        graph.updatePointType(3, PointType.FINISH);
+        Map<Integer, Integer> expected = new BFSTraversingAlgorithm<Integer, Integer>().run(graph);
+        Map<Integer, Integer> result = new ParallelBFSTraversingAlgorithm<Integer, Integer>(new ForkJoinPool(4)).run(graph);
+        checkSameTree(graph, expected, result);
+    }
+
+    @Test
+    public void runOnGridWithBlocksAndFinish_findsSameLevelsAsBFS() {
+        ImplicitGridGraph graph = new ImplicitGridGraph(60, 70);
+        graph.updatePointType(new GridPoint(30, 35), PointType.SOURCE);
+        for (int row = 10; row < 50; ++row) {
+            graph.updatePointType(new GridPoint(row, 20), PointType.BLOCKS);
+        }
+        graph.updatePointType(new GridPoint(30, 36), PointType.FINISH);
+        Map<GridPoint, GridPoint> expected = new BFSTraversingAlgorithm<GridPoint, Integer>().run(graph);
+        Map<GridPoint, GridPoint> result = new ParallelBFSTraversingAlgorithm<GridPoint, Integer>().run(graph);
+        checkSameTree(graph, expected, result);
+    }
+}
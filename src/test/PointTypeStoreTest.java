@@ -0,0 +1,61 @@
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.GraphInterface.PointType;
+import com.company.Graphs.Implementations.AbstractGraph;
+import com.company.Graphs.Implementations.UnDirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PointTypeStoreTest {
+
+    private AbstractGraph<String, Integer> createGraph() throws VertexAlreadyExistsException {
+        AbstractGraph<String, Integer> graph = new UnDirectedGraph<>();
+        graph.addVertex("a");
+        graph.addVertex("b");
+        graph.addVertex("c");
+        return graph;
+    }
+
+    @Test
+    public void updatePointType_changesTypeByIndex() throws VertexAlreadyExistsException {
+        AbstractGraph<String, Integer> graph = createGraph();
+        graph.updatePointType("b", PointType.BLOCKS);
+        graph.updatePointType("b", PointType.FINISH);
+        assertEquals(PointType.FINISH, graph.getPointTypeByIndex(graph.getVertexIndex("b")));
+        assertEquals(Set.of("b"), graph.getPointsOfType(PointType.FINISH));
+        assertTrue(graph.getPointsOfType(PointType.BLOCKS).isEmpty());
+        assertEquals(Set.of("a", "c"), graph.getPointsOfType(PointType.FREE));
+    }
+
+    @Test
+    public void updatePointTypeForNonExistingVertex_ignoresPoint() throws VertexAlreadyExistsException {
+        AbstractGraph<String, Integer> graph = createGraph();
+        graph.updatePointType("d", PointType.SOURCE);
+        assertTrue(graph.getPointsOfType(PointType.SOURCE).isEmpty());
+        assertTrue(graph.isFreePoint("d"));
+    }
+
+    @Test
+    public void removeVertex_movesTypeOfLastVertex() throws VertexAlreadyExistsException, NoSuchVertexException {
+        AbstractGraph<String, Integer> graph = createGraph();
+        graph.updatePointType("a", PointType.SOURCE);
+        graph.updatePointType("c", PointType.BLOCKS);
+        graph.removeVertex("a");
+        assertEquals(PointType.BLOCKS, graph.getPointTypeByIndex(graph.getVertexIndex("c")));
+        assertEquals(PointType.FREE, graph.getPointTypeByIndex(graph.getVertexIndex("b")));
+        assertTrue(graph.getPointsOfType(PointType.SOURCE).isEmpty());
+        assertEquals(Set.of("c"), graph.getPointsOfType(PointType.BLOCKS));
+    }
+
+    @Test
+    public void resetSelectedPoints_makesAllPointsFree() throws VertexAlreadyExistsException {
+        AbstractGraph<String, Integer> graph = createGraph();
+        graph.updatePointType("a", PointType.SOURCE);
+        graph.resetSelectedPoints();
+        assertFalse(graph.isPointSelected("a"));
+        assertEquals(3, graph.getPointsOfType(PointType.FREE).size());
+    }
+}
@@ -0,0 +1,71 @@
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.PrimGraphAlgorithm;
+import com.company.Graphs.Errors.EdgeAlreadyExistsException;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.Implementations.UnDirectedGraph;
+import javafx.util.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrimGraphAlgorithmTest {
+
+    @Test
+    public void run_findsLightestEdges() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        GraphInterface<Integer, Integer> graph = new UnDirectedGraph<>();
+        for (int i = 0; i < 4; ++i) {
+            graph.addVertex(i, 0);
+        }
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 5);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 0, 2);
+        graph.addEdge(0, 2, 4);
+        List<Pair<Integer, Integer>> tree = graph.runAlgorithm(new PrimGraphAlgorithm<>());
+        long weight = 0;
+        for (Pair<Integer, Integer> edge : tree) {
+            weight += graph.getEdgeValue(edge.getKey(), edge.getValue());
+        }
+        assertEquals(3, tree.size());
+        assertEquals(4, weight);
+    }
+
+    @Test
+    public void runOnDisconnectedGraph_spansEachComponent() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        GraphInterface<Integer, Integer> graph = new UnDirectedGraph<>();
+        for (int i = 0; i < 5; ++i) {
+            graph.addVertex(i, 0);
+        }
+        graph.addEdge(0, 1, 3);
+        graph.addEdge(2, 3, 3);
+        graph.addEdge(3, 4, 3);
+        assertEquals(3, graph.runAlgorithm(new PrimGraphAlgorithm<>()).size());
+    }
+
+    @Test
+    public void runOnEmptyGraph_returnsEmptyList() {
+        GraphInterface<Integer, Integer> graph = new UnDirectedGraph<>();
+        assertTrue(graph.runAlgorithm(new PrimGraphAlgorithm<>()).isEmpty());
+    }
+
+    @Test
+    public void runWithDoubleValues_comparesValues() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        GraphInterface<Integer, Double> graph = new UnDirectedGraph<>();
+        for (int i = 0; i < 3; ++i) {
+            graph.addVertex(i, 0.0);
+        }
+        graph.addEdge(0, 1, 0.9);
+        graph.addEdge(1, 2, 0.2);
+        graph.addEdge(0, 2, 0.5);
+        List<Pair<Integer, Integer>> tree = graph.runAlgorithm(new PrimGraphAlgorithm<>());
+        double weight = 0;
+        for (Pair<Integer, Integer> edge : tree) {
+            weight += graph.getEdgeValue(edge.getKey(), edge.getValue());
+        }
+        assertEquals(2, tree.size());
+        assertEquals(0.7, weight, 1e-9);
+    }
+}
@@ -0,0 +1,37 @@
+import com.company.Graphs.Algorithms.TraversingAlgorithms.DijkstraTraversingAlgorithm;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.RadixHeapDijkstraTraversingAlgorithm;
+import com.company.Graphs.Errors.EdgeAlreadyExistsException;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.GraphInterface.PointType;
+import com.company.Graphs.Implementations.DirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RadixHeapDijkstraTraversingAlgorithmTest {
+
+    @Test
+    public void run_findsSameDistancesAsDijkstra() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        GraphInterface<Integer, Integer> graph = GraphTestUtils.createRandomGraph(7, 300, 2000, 20);
+        Map<Integer, Integer> expected = new DijkstraTraversingAlgorithm<Integer>().run(graph);
+        Map<Integer, Integer> result = new RadixHeapDijkstraTraversingAlgorithm<Integer>().run(graph);
+        assertEquals(expected.keySet(), result.keySet());
+        for (Integer vertex : expected.keySet()) {
+            assertEquals(GraphTestUtils.getPathLength(graph, expected, vertex), GraphTestUtils.getPathLength(graph, result, vertex));
+        }
+    }
+
+    @Test
+    public void runWithNegativeWeight_throwsException() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        GraphInterface<Integer, Integer> graph = new DirectedGraph<>();
+        graph.addVertex(0, 0);
+        graph.addVertex(1, 0);
+        graph.addEdge(0, 1, -1);
+        graph.updatePointType(0, PointType.SOURCE);
+        assertThrows(IllegalArgumentException.class, () -> new RadixHeapDijkstraTraversingAlgorithm<Integer>().run(graph));
+    }
+}
@@ -0,0 +1,97 @@
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.BidirectionalBFSGraphAlgorithm;
+import com.company.Graphs.Algorithms.SearchContext;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.BFSTraversingAlgorithm;
+import com.company.Graphs.Algorithms.TraversingAlgorithms.DijkstraTraversingAlgorithm;
+import com.company.Graphs.Errors.EdgeAlreadyExistsException;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.GraphInterface.PointType;
+import com.company.Graphs.Implementations.DirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SearchContextTest {
+
+    @Test
+    public void acquireAfterClose_hasNoMarks() {
+        try (SearchContext context = SearchContext.acquire(10)) {
+            assertTrue(context.mark(0, 3));
+            assertFalse(context.mark(0, 3));
+            assertFalse(context.isMarked(1, 3));
+        }
+        try (SearchContext context = SearchContext.acquire(10)) {
+            assertFalse(context.isMarked(0, 3));
+        }
+    }
+
+    @Test
+    public void acquireInsideRun_returnsOtherContext() {
+        try (SearchContext outer = SearchContext.acquire(10)) {
+            outer.mark(0, 1);
+            try (SearchContext inner = SearchContext.acquire(10)) {
+                assertFalse(outer == inner);
+                assertFalse(inner.isMarked(0, 1));
+            }
+            assertTrue(outer.isMarked(0, 1));
+        }
+    }
+
+    @Test
+    public void acquireAboveMaxPooledBound_returnsNotPooledContext() {
+        SearchContext pooled;
+        try (SearchContext context = SearchContext.acquire(10)) {
+            pooled = context;
+        }
+        try (SearchContext context = SearchContext.acquire(SearchContext.MAX_POOLED_BOUND + 1)) {
+            assertFalse(pooled == context);
+        }
+    }
+
+    @Test
+    public void runSharedAlgorithmsFromManyThreads_sameAsSequentialRuns() throws Exception {
+        Random random = new Random(23);
+        List<GraphInterface<Integer, Integer>> graphs = new ArrayList<>();
+        for (int i = 0; i < 8; ++i) {
+            GraphInterface<Integer, Integer> graph = new DirectedGraph<>();
+            for (int vertex = 0; vertex < 300; ++vertex) {
+                graph.addVertex(vertex, 0);
+            }
+            for (int edge = 0; edge < 900; ++edge) {
+                int from = random.nextInt(300);
+                int to = random.nextInt(300);
+                if (from != to && !graph.containsEdge(from, to)) graph.addEdge(from, to, random.nextInt(10));
+            }
+            graph.updatePointType(i, PointType.SOURCE);
+            graphs.add(graph);
+        }
+        BFSTraversingAlgorithm<Integer, Integer> bfs = new BFSTraversingAlgorithm<>();
+        DijkstraTraversingAlgorithm<Integer> dijkstra = new DijkstraTraversingAlgorithm<>();
+        BidirectionalBFSGraphAlgorithm<Integer, Integer> distance = new BidirectionalBFSGraphAlgorithm<>(0, 299);
+        List<Object> expected = new ArrayList<>();
+        for (GraphInterface<Integer, Integer> graph : graphs) {
+            expected.add(Arrays.asList(graph.runAlgorithm(bfs), graph.runAlgorithm(dijkstra), graph.runAlgorithm(distance)));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int repeat = 0; repeat < 20; ++repeat) {
+                for (GraphInterface<Integer, Integer> graph : graphs) {
+                    futures.add(executor.submit(() -> Arrays.asList(graph.runAlgorithm(bfs), graph.runAlgorithm(dijkstra), graph.runAlgorithm(distance))));
+                }
+            }
+            for (int i = 0; i < futures.size(); ++i) {
+                assertEquals(expected.get(i % graphs.size()), futures.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+import com.company.Graphs.Algorithms.AlgorithmBudget;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.ShortestDistancesBatchGraphAlgorithm;
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.VertexPairDistance;
+import com.company.Graphs.Errors.AlgorithmAbortedException;
+import com.company.Graphs.Errors.EdgeAlreadyExistsException;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.GraphInterface;
+import com.company.Graphs.Implementations.DirectedGraph;
+import javafx.util.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShortestDistancesBatchGraphAlgorithmTest {
+
+    @Test
+    public void calculateForRandomPairs_sameDistancesAsSingleQueries() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        Random random = new Random(11);
+        GraphInterface<Integer, Integer> graph = new DirectedGraph<>();
+        for (int i = 0; i < 200; ++i) {
+            graph.addVertex(i, 0);
+        }
+        for (int i = 0; i < 500; ++i) {
+            int from = random.nextInt(200);
+            int to = random.nextInt(200);
+            if (graph.containsEdge(from, to)) continue;
+            graph.addEdge(from, to);
+        }
+        List<Pair<Integer, Integer>> pairs = new ArrayList<>();
+        for (int i = 0; i < 300; ++i) {
+            pairs.add(new Pair<>(random.nextInt(20), random.nextInt(200)));
+        }
+        Map<Pair<Integer, Integer>, Integer> counts = new HashMap<>();
+        for (Pair<Integer, Integer> pair : pairs) {
+            counts.merge(pair, 1, Integer::sum);
+        }
+        List<VertexPairDistance<Integer>> answers = graph.calculateShortestDistancesBetweenVertexes(pairs).collect(Collectors.toList());
+        assertEquals(pairs.size(), answers.size());
+        for (VertexPairDistance<Integer> answer : answers) {
+            Pair<Integer, Integer> pair = new Pair<>(answer.getSource(), answer.getTarget());
+            int expected = graph.calculateShortestDistanceBetweenVertexes(answer.getSource(), answer.getTarget());
+            assertEquals(expected, answer.getDistance());
+            assertTrue(counts.merge(pair, -1, Integer::sum) >= 0);
+        }
+    }
+
+    @Test
+    public void calculateWithMissingVertex_throwsNoSuchVertexException() throws VertexAlreadyExistsException {
+        GraphInterface<Integer, Integer> graph = new DirectedGraph<>();
+        graph.addVertex(1, 0);
+        assertThrows(NoSuchVertexException.class, () -> graph.calculateShortestDistancesBetweenVertexes(Arrays.asList(new Pair<>(1, 1), new Pair<>(1, 2))));
+    }
+
+    @Test
+    public void runWithExceededBudget_throwsAbortedException() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        GraphInterface<Integer, Integer> graph = new DirectedGraph<>();
+        for (int i = 0; i < 100; ++i) {
+            graph.addVertex(i, 0);
+        }
+        for (int i = 0; i + 1 < 100; ++i) {
+            graph.addEdge(i, i + 1);
+        }
+        ShortestDistancesBatchGraphAlgorithm<Integer, Integer> algorithm = new ShortestDistancesBatchGraphAlgorithm<>(List.of(new Pair<>(0, 99), new Pair<>(1, 99)));
+        AlgorithmBudget budget = new AlgorithmBudget(null, 10);
+        assertThrows(AlgorithmAbortedException.class, () -> budget.run(() -> algorithm.run(graph)));
+    }
+}
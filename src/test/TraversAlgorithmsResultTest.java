@@ -74,5 +74,38 @@ public class TraversAlgorithmsResultTest {
         assertFalse(result.getVisited().contains(new GridPoint(1, 0)));
     }
 
+    @Test
+    public void iteratePathForFinish_walksBackToSource() {
+        GraphInterface<GridPoint, Integer> graph = new GridGraph(10, 10);
+        graph.updatePointType(new GridPoint(0, 0), PointType.SOURCE);
+        graph.updatePointType(new GridPoint(3, 4), PointType.FINISH);
+
+        Map<GridPoint, GridPoint> results = new BFSTraversingAlgorithm<GridPoint, Integer>().run(graph);
+        TraversAlgorithmsResult<GridPoint> result = new TraversAlgorithmsResult<>(results, graph);
+
+        List<GridPoint> path = new ArrayList<>();
+        result.iteratePath(new GridPoint(3, 4)).forEachRemaining(path::add);
+        assertEquals(8, path.size());
+        assertEquals(7, result.getPathLength(new GridPoint(3, 4)));
+        assertEquals(new GridPoint(3, 4), path.get(0));
+        assertEquals(new GridPoint(0, 0), path.get(7));
+        assertEquals(0, result.getPathLength(new GridPoint(0, 0)));
+    }
 
+    @Test
+    public void iteratePathForNotReachedPoint_isEmpty() {
+        GraphInterface<GridPoint, Integer> graph = new GridGraph(10, 10);
+        graph.updatePointType(new GridPoint(0, 0), PointType.SOURCE);
+        graph.updatePointType(new GridPoint(0, 1), PointType.BLOCKS);
+        graph.updatePointType(new GridPoint(1, 0), PointType.BLOCKS);
+        graph.updatePointType(new GridPoint(5, 5), PointType.FINISH);
+
+        Map<GridPoint, GridPoint> results = new BFSTraversingAlgorithm<GridPoint, Integer>().run(graph);
+        TraversAlgorithmsResult<GridPoint> result = new TraversAlgorithmsResult<>(results, graph);
+
+        assertFalse(result.iteratePath(new GridPoint(5, 5)).hasNext());
+        assertEquals(-1, result.getPathLength(new GridPoint(5, 5)));
+        assertEquals(1, result.getRestoredPaths().size());
+        assertTrue(result.getVisited().isEmpty());
+    }
 }
@@ -1,3 +1,4 @@
+import com.company.Graphs.Algorithms.ArbitraryGraphAlgoritm.ConnectionCheckGraphAlgorithm;
 import com.company.Graphs.Implementations.AbstractGraph;
 import com.company.Graphs.Errors.EdgeAlreadyExistsException;
 import com.company.Graphs.Errors.NoSuchEdgeException;
@@ -8,6 +9,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -173,5 +175,73 @@ public class UnDirectedGraphTest {
         assertTrue(isCorrect);
     }
 
+    @Test
+    public void sameComponentAfterAddingAndRemovingEdges_followsEdges() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException, NoSuchEdgeException {
+        UnDirectedGraph<Integer, Integer> graph = new UnDirectedGraph<>();
+        for (int i = 0; i < 5; ++i) {
+            graph.addVertex(i, 0);
+        }
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.addEdge(3, 4);
+        assertTrue(graph.sameComponent(0, 2));
+        assertFalse(graph.sameComponent(0, 3));
+        assertEquals(2, graph.getComponentsNumber());
+        graph.removeEdge(1, 2);
+        assertFalse(graph.sameComponent(0, 2));
+        assertEquals(3, graph.getComponentsNumber());
+        graph.removeVertex(0);
+        graph.addEdge(2, 3);
+        assertTrue(graph.sameComponent(2, 4));
+        assertEquals(2, graph.getComponentsNumber());
+        assertFalse(graph.isGraphConnected());
+    }
+
+    @Test
+    public void isGraphConnectedForRandomChanges_sameAsConnectionCheck() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException, NoSuchEdgeException {
+        Random random = new Random(17);
+        UnDirectedGraph<Integer, Integer> graph = new UnDirectedGraph<>();
+        for (int i = 0; i < 30; ++i) {
+            graph.addVertex(i, 0);
+        }
+        for (int step = 0; step < 500; ++step) {
+            int first = random.nextInt(30);
+            int second = random.nextInt(30);
+            if (first == second) continue;
+            if (graph.containsEdge(first, second)) graph.removeEdge(first, second);
+            else graph.addEdge(first, second);
+            boolean expected = new ConnectionCheckGraphAlgorithm<Integer, Integer>().run(graph);
+            assertEquals(expected, graph.isGraphConnected());
+        }
+    }
+
+    @Test
+    public void sameComponentForNonExistingVertex_throwsException() {
+        UnDirectedGraph<Integer, Integer> graph = new UnDirectedGraph<>();
+        Exception exception = assertThrows(NoSuchVertexException.class, () -> graph.sameComponent(0, 1));
+        assertEquals("There is no such vertex 0", exception.getMessage());
+    }
+
+    @Test
+    public void statisticsAfterChanges_countEdgesInBothDirections() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException, NoSuchEdgeException {
+        UnDirectedGraph<Integer, Integer> graph = new UnDirectedGraph<>();
+        for (int i = 0; i < 4; ++i) {
+            graph.addVertex(i, 0);
+        }
+        graph.addEdge(0, 1, 5);
+        graph.addEdge(1, 2, 7);
+        graph.addEdge(2, 0);
+        graph.addEdge(0, 3, 4);
+        assertEquals(8, graph.getEdgesNumber());
+        assertEquals(17, graph.getTotalWeight());
+        assertEquals(3, graph.getInDegree(0));
+        graph.removeAllEdgesForVertex(1);
+        assertEquals(4, graph.getEdgesNumber());
+        assertEquals(5, graph.getTotalWeight());
+        graph.removeVertex(0);
+        assertEquals(0, graph.getEdgesNumber());
+        assertEquals(0, graph.getTotalWeight());
+        assertEquals(0, graph.getOutDegree(2));
+    }
 
 }
@@ -0,0 +1,47 @@
+import com.company.Graphs.Errors.EdgeAlreadyExistsException;
+import com.company.Graphs.Errors.NoSuchVertexException;
+import com.company.Graphs.Errors.VertexAlreadyExistsException;
+import com.company.Graphs.Implementations.AbstractGraph;
+import com.company.Graphs.Implementations.UnDirectedGraph;
+import com.company.Graphs.VertexIdDictionary;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VertexIdDictionaryTest {
+
+    @Test
+    public void add_assignsDenseIndexes() {
+        VertexIdDictionary<String> dictionary = new VertexIdDictionary<>();
+        assertEquals(0, dictionary.add("a"));
+        assertEquals(1, dictionary.add("b"));
+        assertEquals(0, dictionary.add("a"));
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    public void remove_movesLastVertexToFreedIndex() {
+        VertexIdDictionary<String> dictionary = new VertexIdDictionary<>();
+        dictionary.add("a");
+        dictionary.add("b");
+        dictionary.add("c");
+        assertEquals(0, dictionary.remove("a"));
+        assertEquals(0, dictionary.getIndex("c"));
+        assertEquals("c", dictionary.get(0));
+        assertEquals(-1, dictionary.getIndex("a"));
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    public void removeVertexFromGraph_keepsIndexesConsistent() throws VertexAlreadyExistsException, NoSuchVertexException, EdgeAlreadyExistsException {
+        AbstractGraph<Integer, Integer> graph = new UnDirectedGraph<>();
+        for (int i = 0; i < 4; ++i) {
+            graph.addVertex(i, i);
+        }
+        graph.addEdge(3, 1);
+        graph.removeVertex(0);
+        int index = graph.getVertexIndex(3);
+        assertEquals(1, graph.getDegreeByIndex(index));
+        assertEquals(1, graph.getVertexByIndex(graph.getNeighbourByIndex(index, 0)));
+    }
+}